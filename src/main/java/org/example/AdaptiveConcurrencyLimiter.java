@@ -0,0 +1,222 @@
+package org.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side limit on concurrent requests that adapts to how the server
+ * responds (additive increase, multiplicative decrease).
+ *
+ * <p>Every request holds a permit while it is in flight. A fast, successful
+ * response raises the limit by roughly one permit per limit's worth of
+ * responses; a throttling response or a failed request cuts it by
+ * {@link #DEFAULT_BACKOFF_RATIO}, and a slow response trims it slightly.
+ * The limit stays between a minimum and a maximum. When it drops below
+ * the number of requests in flight, new requests wait until enough of
+ * them have finished.</p>
+ *
+ * <p>The limiter is thread-safe and meant to be shared by all requests to
+ * one server.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /** Default number of concurrent requests before any feedback. */
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+
+    /** Default lower bound for the limit. */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /** Default upper bound for the limit. */
+    public static final int DEFAULT_MAX_LIMIT = 16;
+
+    /** Default factor applied to the limit after throttling or a failed request. */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.5;
+
+    /** Default latency above which a successful response counts as a sign of congestion. */
+    public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofSeconds(2);
+
+    /** Factor applied to the limit after a slow but successful response. */
+    private static final double SLOW_RESPONSE_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long throttled;
+    private long dropped;
+
+    /**
+     * Creates a limiter with the default configuration.
+     */
+    public AdaptiveConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_BACKOFF_RATIO, DEFAULT_LATENCY_THRESHOLD);
+    }
+
+    /**
+     * Creates a limiter.
+     *
+     * @param initialLimit     number of concurrent requests before any feedback
+     * @param minLimit         lower bound for the limit
+     * @param maxLimit         upper bound for the limit
+     * @param backoffRatio     factor applied to the limit after throttling or a failed request
+     * @param latencyThreshold latency above which a successful response counts as a sign of congestion
+     * @throws IllegalArgumentException if the bounds are not ordered {@code 1 <= minLimit <= initialLimit <= maxLimit}
+     *                                  or {@code backoffRatio} is not between 0 and 1
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold) {
+        if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            logger.error("AdaptiveConcurrencyLimiter: invalid limits {}/{}/{} or backoffRatio {}", minLimit, initialLimit, maxLimit, backoffRatio);
+            throw new IllegalArgumentException("limits must satisfy 1 <= min <= initial <= max and backoffRatio must be in (0, 1)");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+    }
+
+    /**
+     * Waits until a request may be sent and takes a permit for it. Every
+     * call must be followed by exactly one of {@link #onSuccess(long)},
+     * {@link #onThrottled()}, {@link #onDropped()} or {@link #onCancelled()}.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the permit of a request that received a successful response.
+     *
+     * @param latencyNanos time from sending the request to receiving the response headers
+     */
+    public void onSuccess(long latencyNanos) {
+        lock.lock();
+        try {
+            if (latencyNanos <= latencyThresholdNanos) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            } else {
+                limit = Math.max(minLimit, limit * SLOW_RESPONSE_RATIO);
+            }
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the permit of a request the server rejected as throttled.
+     */
+    public void onThrottled() {
+        lock.lock();
+        try {
+            throttled++;
+            limit = Math.max(minLimit, limit * backoffRatio);
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the permit of a request that failed without a usable response,
+     * e.g. on a timeout or a server error.
+     */
+    public void onDropped() {
+        lock.lock();
+        try {
+            dropped++;
+            limit = Math.max(minLimit, limit * backoffRatio);
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the permit of a request whose outcome says nothing about the
+     * server's capacity, e.g. because the thread was interrupted or the
+     * request was rejected as invalid. The limit is not adjusted.
+     */
+    public void onCancelled() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the current number of requests allowed in flight
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests currently in flight
+     */
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of throttling responses received so far
+     */
+    public long throttled() {
+        lock.lock();
+        try {
+            return throttled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests that failed without a response so far
+     */
+    public long dropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        // The limit may have grown by more than the returned permit
+        permitAvailable.signalAll();
+    }
+}
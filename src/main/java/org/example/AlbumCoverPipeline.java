@@ -0,0 +1,215 @@
+package org.example;
+
+import org.example.cover.CoverStore;
+import org.example.cover.ImageFormat;
+import org.example.entity.Album;
+import org.example.repo.AlbumRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Background stage that downloads album artwork after the catalog has been
+ * ingested.
+ *
+ * <p>Albums are persisted with their artwork URL only. This pipeline picks up
+ * every album without a stored cover, downloads the artwork with a bounded
+ * number of concurrent requests, streams the response body into the
+ * {@link CoverStore} and records its hash on the album.</p>
+ *
+ * <p>Covers are stored exactly as served. The response is only validated by
+ * sniffing its header for a supported {@link ImageFormat}; it is never
+ * decoded or re-encoded here. Display renditions are generated from the
+ * stored original when a cover is first shown.</p>
+ *
+ * <p>Each request has a timeout. Timeouts, I/O errors, {@code 429} and
+ * {@code 5xx} responses are retried with exponential backoff; other
+ * responses and bodies that are not a supported image format are skipped, leaving the default image
+ * in place.</p>
+ */
+public class AlbumCoverPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(AlbumCoverPipeline.class);
+
+    /** Default upper bound for concurrent artwork downloads. */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /** Default timeout for a single artwork request. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    /** Default number of attempts per album, including the first one. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /** Default delay before the first retry; doubled for every further retry. */
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(500);
+
+    private final AlbumRepository albumRepo;
+    private final CoverStore coverStore;
+    private final HttpClient client;
+    private final int parallelism;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    /**
+     * Creates a new cover pipeline with the default configuration.
+     *
+     * @param albumRepo  repository used to find albums and attach covers
+     * @param coverStore store receiving the downloaded covers
+     */
+    public AlbumCoverPipeline(AlbumRepository albumRepo, CoverStore coverStore) {
+        this(albumRepo, coverStore, HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build(),
+            DEFAULT_PARALLELISM, DEFAULT_TIMEOUT, DEFAULT_MAX_ATTEMPTS, DEFAULT_BACKOFF);
+    }
+
+    /**
+     * Creates a new cover pipeline.
+     *
+     * @param albumRepo   repository used to find albums and attach covers
+     * @param coverStore  store receiving the downloaded covers
+     * @param client      HTTP client used for artwork downloads
+     * @param parallelism maximum number of concurrent downloads
+     * @param timeout     timeout for a single artwork request
+     * @param maxAttempts number of attempts per album, including the first one
+     * @param backoff     delay before the first retry
+     * @throws IllegalArgumentException if {@code parallelism} or {@code maxAttempts} is less than 1
+     */
+    public AlbumCoverPipeline(AlbumRepository albumRepo, CoverStore coverStore, HttpClient client, int parallelism, Duration timeout, int maxAttempts, Duration backoff) {
+        if (parallelism < 1 || maxAttempts < 1) {
+            logger.error("AlbumCoverPipeline: invalid parallelism {} or maxAttempts {}", parallelism, maxAttempts);
+            throw new IllegalArgumentException("parallelism and maxAttempts must be at least 1");
+        }
+        this.albumRepo = albumRepo;
+        this.coverStore = coverStore;
+        this.client = client;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    /**
+     * Starts fetching covers on a background virtual thread.
+     *
+     * @param onCoverAttached callback invoked on the downloading thread with the
+     *                        album id and cover hash after each attached cover
+     * @return future completed with the number of attached covers
+     */
+    public CompletableFuture<Integer> start(BiConsumer<Long, String> onCoverAttached) {
+        return CompletableFuture.supplyAsync(() -> run(onCoverAttached),
+            task -> Thread.ofVirtual().name("album-covers").start(task));
+    }
+
+    /**
+     * Fetches and attaches the covers of all albums that do not have one yet.
+     * Blocks until every album has been processed.
+     *
+     * @param onCoverAttached callback invoked with the album id and cover hash
+     *                        after each attached cover
+     * @return the number of attached covers
+     */
+    public int run(BiConsumer<Long, String> onCoverAttached) {
+        List<Album> pending = albumRepo.findWithoutCover();
+        logger.info("run: fetching covers for {} albums", pending.size());
+
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger attached = new AtomicInteger();
+        // Closing the executor waits for every submitted download to complete
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Album album : pending) {
+                executor.submit(() -> attachCover(album, permits, attached, onCoverAttached));
+            }
+        }
+
+        logger.info("run: attached {} of {} covers", attached.get(), pending.size());
+        return attached.get();
+    }
+
+    /**
+     * Downloads, validates and stores the cover of a single album.
+     *
+     * @param album           album to fetch the cover for
+     * @param permits         semaphore bounding the number of concurrent downloads
+     * @param attached        counter of attached covers
+     * @param onCoverAttached callback invoked after the cover is stored
+     */
+    private void attachCover(Album album, Semaphore permits, AtomicInteger attached, BiConsumer<Long, String> onCoverAttached) {
+        try {
+            permits.acquire();
+            String hash;
+            try {
+                hash = download(URI.create(album.getArtworkUrl()));
+            } finally {
+                permits.release();
+            }
+            if (hash == null) {
+                return;
+            }
+            albumRepo.updateCoverHash(album.getId(), hash);
+            attached.incrementAndGet();
+            onCoverAttached.accept(album.getId(), hash);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.warn("attachCover: failed for album {}", album.getId(), e);
+        }
+    }
+
+    /**
+     * Downloads artwork into the cover store, retrying transient failures with
+     * exponential backoff.
+     *
+     * @param uri artwork location
+     * @return content hash of the stored cover, or {@code null} if it could not be obtained
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    String download(URI uri) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().timeout(timeout).build();
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                int status = response.statusCode();
+                try (InputStream body = new BufferedInputStream(response.body())) {
+                    if (status == 200) {
+                        Optional<ImageFormat> format = ImageFormat.sniff(body);
+                        if (format.isEmpty()) {
+                            logger.warn("download: {} is not a supported image", uri);
+                            return null;
+                        }
+                        return coverStore.put(body);
+                    }
+                }
+                if (status != 429 && status < 500) {
+                    logger.warn("download: {} returned status {}", uri, status);
+                    return null;
+                }
+                logger.debug("download: {} returned status {} on attempt {}", uri, status, attempt);
+            } catch (IOException e) {
+                logger.debug("download: {} failed on attempt {}", uri, attempt, e);
+            }
+
+            if (attempt < maxAttempts) {
+                Thread.sleep(backoff.multipliedBy(1L << (attempt - 1)));
+            }
+        }
+
+        logger.warn("download: giving up on {} after {} attempts", uri, maxAttempts);
+        return null;
+    }
+}
@@ -0,0 +1,229 @@
+package org.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Normalizer;
+
+/**
+ * Matches artist names from search results against a search term.
+ *
+ * <p>Both sides are folded to a comparison key before matching:</p>
+ * <ul>
+ *     <li>letters are lower-cased,</li>
+ *     <li>runs of whitespace and {@code +} collapse to a single space and
+ *     leading/trailing separators are dropped,</li>
+ *     <li>diacritics are removed ({@code "Björk"} matches {@code "bjork"}),</li>
+ *     <li>a leading {@code "The "} is ignored ({@code "The Hives"} matches
+ *     {@code "hives"}).</li>
+ * </ul>
+ *
+ * <p>The key of the search term is computed once in the constructor. Candidate
+ * names are folded character by character into a scratch buffer sized for the
+ * longest name that could still match, so {@link #matches(CharSequence)} does
+ * not allocate and rejects overlong names without reading them to the end.
+ * An optional edit-distance tolerance accepts small spelling differences.</p>
+ *
+ * <p>Instances hold scratch buffers and are not thread-safe; create one
+ * matcher per search.</p>
+ */
+public final class ArtistMatcher {
+    private static final Logger logger = LoggerFactory.getLogger(ArtistMatcher.class);
+
+    /** Characters below this code point are folded through {@link #FOLD}. */
+    private static final int FOLD_TABLE_SIZE = 0x250;
+
+    /** Marker in {@link #FOLD} for characters that are dropped, e.g. combining marks. */
+    private static final char DROP = '\0';
+
+    /** Precomputed folding for Basic Latin, Latin-1 Supplement and Latin Extended-A/B. */
+    private static final char[] FOLD = new char[FOLD_TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < FOLD_TABLE_SIZE; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            FOLD[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+        // Letters without a canonical decomposition
+        FOLD['\u00D8'] = 'o';
+        FOLD['\u00F8'] = 'o';
+        FOLD['\u0110'] = 'd';
+        FOLD['\u0111'] = 'd';
+        FOLD['\u0141'] = 'l';
+        FOLD['\u0142'] = 'l';
+        FOLD['\u0126'] = 'h';
+        FOLD['\u0127'] = 'h';
+        FOLD['\u0131'] = 'i';
+    }
+
+    private final char[] key;
+    private final int maxEdits;
+    private final char[] candidate;
+    private final int[] previousRow;
+    private final int[] currentRow;
+
+    /**
+     * Creates a matcher that only accepts names with the same key as the term.
+     *
+     * @param term search term
+     */
+    public ArtistMatcher(String term) {
+        this(term, 0);
+    }
+
+    /**
+     * Creates a matcher that accepts names within an edit distance of the term.
+     *
+     * @param term     search term
+     * @param maxEdits maximum number of single-character insertions, deletions
+     *                 or substitutions between the folded term and a name
+     * @throws IllegalArgumentException if {@code term} is {@code null} or {@code maxEdits} is negative
+     */
+    public ArtistMatcher(String term, int maxEdits) {
+        if (term == null || maxEdits < 0) {
+            logger.error("ArtistMatcher: invalid term {} or maxEdits {}", term, maxEdits);
+            throw new IllegalArgumentException("term cannot be null and maxEdits must be non-negative");
+        }
+        this.key = normalize(term).toCharArray();
+        this.maxEdits = maxEdits;
+        // Room for the longest name that can still match; "the" is folded before it is stripped
+        this.candidate = new char[Math.max(key.length + maxEdits, 3)];
+        this.previousRow = new int[key.length + 1];
+        this.currentRow = new int[key.length + 1];
+    }
+
+    /**
+     * @return the folded key of the search term
+     */
+    public String key() {
+        return new String(key);
+    }
+
+    /**
+     * Checks whether an artist name matches the search term.
+     *
+     * @param artistName artist name from a search result
+     * @return {@code true} if the folded name is within the configured edit
+     * distance of the folded term, {@code false} otherwise or if {@code artistName} is {@code null}
+     */
+    public boolean matches(CharSequence artistName) {
+        if (artistName == null) {
+            return false;
+        }
+        int length = fold(artistName, candidate);
+        if (length < 0 || Math.abs(length - key.length) > maxEdits) {
+            return false;
+        }
+        if (maxEdits == 0) {
+            for (int i = 0; i < length; i++) {
+                if (candidate[i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return withinEditDistance(length);
+    }
+
+    /**
+     * Folds a string to its comparison key.
+     *
+     * @param s input string
+     * @return folded key, or an empty string if {@code s} is {@code null}
+     */
+    public static String normalize(CharSequence s) {
+        if (s == null) {
+            return "";
+        }
+        char[] out = new char[Math.max(s.length(), 3)];
+        return new String(out, 0, fold(s, out));
+    }
+
+    /**
+     * Folds {@code s} into {@code out}.
+     *
+     * @param s   input string
+     * @param out destination buffer, at least three characters long
+     * @return number of characters written, or {@code -1} if the folded
+     * string does not fit into {@code out}
+     */
+    private static int fold(CharSequence s, char[] out) {
+        int n = 0;
+        boolean pendingSpace = false;
+        boolean firstWord = true;
+
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c == '+' || Character.isWhitespace(c)) {
+                pendingSpace = n > 0;
+                continue;
+            }
+            char folded = c < FOLD_TABLE_SIZE ? FOLD[c] : foldOutsideTable(c);
+            if (folded == DROP) {
+                continue;
+            }
+            if (pendingSpace) {
+                pendingSpace = false;
+                if (firstWord && n == 3 && out[0] == 't' && out[1] == 'h' && out[2] == 'e') {
+                    // Drop a leading "the " instead of emitting the separator
+                    n = 0;
+                } else {
+                    if (n == out.length) {
+                        return -1;
+                    }
+                    out[n++] = ' ';
+                }
+                firstWord = false;
+            }
+            if (n == out.length) {
+                return -1;
+            }
+            out[n++] = folded;
+        }
+        return n;
+    }
+
+    /**
+     * Folds characters outside the lookup table. Combining diacritical marks
+     * are dropped so that decomposed input folds like precomposed input.
+     */
+    private static char foldOutsideTable(char c) {
+        if (c >= '\u0300' && c <= '\u036F') {
+            return DROP;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Computes whether the folded candidate is within {@link #maxEdits} of the
+     * key using the two-row Levenshtein recurrence, stopping as soon as every
+     * cell of a row exceeds the limit.
+     *
+     * @param length number of folded characters in {@link #candidate}
+     * @return {@code true} if the edit distance is at most {@link #maxEdits}
+     */
+    private boolean withinEditDistance(int length) {
+        int[] previous = previousRow;
+        int[] current = currentRow;
+        for (int j = 0; j <= key.length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= length; i++) {
+            current[0] = i;
+            int rowMin = i;
+            char c = candidate[i - 1];
+            for (int j = 1; j <= key.length; j++) {
+                int cost = c == key[j - 1] ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[key.length] <= maxEdits;
+    }
+}
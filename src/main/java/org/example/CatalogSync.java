@@ -0,0 +1,143 @@
+package org.example;
+
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.BulkCatalogWriter.UpsertResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Background job that keeps the local catalog in step with the iTunes API.
+ *
+ * <p>{@link DatabaseInitializer} ingests every seed term only once. This
+ * job re-fetches the search terms on a fixed schedule and hands every page
+ * to {@link BulkCatalogWriter#upsert(java.util.Collection)}, which compares
+ * the content hash of each artist, album and song with the stored row and
+ * writes only rows that are new or changed. Playlists are never touched.</p>
+ *
+ * <p>Syncs run on a single daemon thread, the first one after a full
+ * interval, so starting the job never delays application startup. A
+ * failing term is logged and skipped; the remaining terms are still
+ * synced.</p>
+ *
+ * <p>The client's response cache serves fresh entries without contacting
+ * the API, so the job needs a client of its own whose cache TTL does not
+ * exceed the interval. With a TTL of zero every search is sent as a
+ * conditional request, and unchanged responses are revalidated rather than
+ * downloaded again.</p>
+ */
+public class CatalogSync implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSync.class);
+
+    /** Default time between two syncs. */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofHours(6);
+
+    private final ItunesApiClient apiClient;
+    private final BulkCatalogWriter writer;
+    private final List<String> terms;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a sync job for the bundled seed list and the default interval.
+     *
+     * @param apiClient client used to fetch data from the iTunes API
+     * @param writer    writer applying the fetched results
+     */
+    public CatalogSync(ItunesApiClient apiClient, BulkCatalogWriter writer) {
+        this(apiClient, writer, SeedList.defaults(), DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Creates a sync job.
+     *
+     * @param apiClient client used to fetch data from the iTunes API
+     * @param writer    writer applying the fetched results
+     * @param terms     search terms to sync
+     * @param interval  time between two syncs
+     * @throws IllegalArgumentException if {@code terms} is {@code null} or {@code interval} is not positive
+     */
+    public CatalogSync(ItunesApiClient apiClient, BulkCatalogWriter writer, List<String> terms, Duration interval) {
+        if (terms == null || interval == null || interval.isNegative() || interval.isZero()) {
+            logger.error("CatalogSync: invalid terms {} or interval {}", terms, interval);
+            throw new IllegalArgumentException("terms cannot be null and interval must be positive");
+        }
+        this.apiClient = apiClient;
+        this.writer = writer;
+        this.terms = List.copyOf(terms);
+        this.interval = interval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("catalog-sync")
+            .daemon(true)
+            .factory());
+    }
+
+    /**
+     * Schedules periodic syncs, the first one after a full interval.
+     *
+     * @param onSynced callback invoked on the sync thread with the result of every sync
+     */
+    public void start(Consumer<UpsertResult> onSynced) {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                onSynced.accept(syncOnce());
+            } catch (RuntimeException e) {
+                // An escaping exception would cancel all further syncs
+                logger.error("start: catalog sync failed", e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fetches every search term and upserts the results. Blocks until all
+     * terms have been processed.
+     *
+     * @return the combined result of all terms
+     */
+    public UpsertResult syncOnce() {
+        UpsertResult total = UpsertResult.EMPTY;
+        for (String term : terms) {
+            try {
+                total = total.plus(syncTerm(term));
+            } catch (RuntimeException e) {
+                logger.warn("syncOnce: sync failed for term: {}", term, e);
+            }
+        }
+        logger.info("syncOnce: {} inserted, {} updated, {} unchanged", total.inserted(), total.updated(), total.unchanged());
+        return total;
+    }
+
+    /**
+     * Fetches and upserts all pages of a single search term.
+     *
+     * @param term search term to sync
+     * @return the combined result of all pages
+     */
+    private UpsertResult syncTerm(String term) {
+        UpsertResult result = UpsertResult.EMPTY;
+        try (Stream<List<ItunesDTO>> pages = apiClient.searchPages(term)) {
+            Iterator<List<ItunesDTO>> it = pages.iterator();
+            while (it.hasNext()) {
+                result = result.plus(writer.upsert(it.next()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cancels scheduled syncs. A sync in progress is interrupted.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -2,13 +2,26 @@ package org.example;
 
 import org.example.entity.Album;
 import org.example.entity.Artist;
+import org.example.entity.IngestCheckpoint;
 import org.example.entity.Playlist;
 import org.example.entity.Song;
 import org.example.repo.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
 
 /**
  * Initializes and populates the application database.
@@ -21,12 +34,39 @@ import java.util.List;
  * </ul>
  *
  * <p>The initializer is designed to be idempotent: data is only inserted
- * if the database is empty or missing required entities.</p>
+ * if the database is empty or missing required entities. Later changes to
+ * the remote catalog are picked up by {@link CatalogSync}.</p>
+ *
+ * <p>The search terms come from a {@link SeedList}. When an
+ * {@link IngestCheckpointRepository} is supplied, progress is checkpointed
+ * after every persisted page: completed terms are skipped on later runs,
+ * and an interrupted term resumes after its last persisted page. Failed
+ * terms are retried on the next run. Throughput and an estimated time to
+ * completion are logged while the ingest runs.</p>
+ *
+ * <p>Search terms are fetched concurrently on virtual threads, bounded by a
+ * configurable number of in-flight requests. Each term is paged through
+ * lazily; fetched pages are handed to the initializing thread through a
+ * small bounded queue and persisted as they arrive, optionally through a
+ * {@link BulkCatalogWriter} that writes each page in one batched
+ * transaction. Fetching blocks while the queue is full, so memory use is
+ * independent of how many tracks an artist has.</p>
+ *
+ * <p>Artists and albums are resolved at most once per run through an
+ * {@link IngestResolutionCache}: rows repeating an artist or album that an
+ * earlier row or page already resolved reuse it without another existence
+ * check.</p>
  */
 public class DatabaseInitializer {
 
     private static final Logger logger = LoggerFactory.getLogger(DatabaseInitializer.class);
 
+    /**
+     * Default number of search terms fetched at once. Concurrent requests
+     * are further bounded by the client's {@link AdaptiveConcurrencyLimiter}.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_FETCHES = 16;
+
     private final ItunesApiClient apiClient;
 
     private final SongRepository songRepo;
@@ -34,6 +74,24 @@ public class DatabaseInitializer {
     private final ArtistRepository artistRepo;
     private final PlaylistRepository playlistRepo;
 
+    private final IngestCheckpointRepository checkpoints;
+    private final BulkCatalogWriter bulkWriter;
+    private final List<String> seeds;
+    private final int maxConcurrentFetches;
+
+    /**
+     * A page of search results handed from a fetching thread to the persisting thread.
+     *
+     * @param term      search term the page belongs to
+     * @param songs     page contents, or {@code null} to signal that the term is finished
+     * @param persisted whether an earlier run already persisted the page
+     */
+    private record FetchedPage(String term, List<ItunesDTO> songs, boolean persisted) {
+        boolean isEndOfTerm() {
+            return songs == null;
+        }
+    }
+
     /**
      * Creates a new database initializer.
      *
@@ -44,72 +102,268 @@ public class DatabaseInitializer {
      * @param playlistRepo repository for {@link Playlist} entities
      */
     public DatabaseInitializer(ItunesApiClient apiClient, SongRepository songRepo, AlbumRepository albumRepo, ArtistRepository artistRepo, PlaylistRepository playlistRepo) {
+        this(apiClient, songRepo, albumRepo, artistRepo, playlistRepo, null, DEFAULT_MAX_CONCURRENT_FETCHES);
+    }
+
+    /**
+     * Creates a new database initializer with a custom ingest configuration
+     * and the bundled seed list, without checkpoints.
+     *
+     * <p>When a {@link BulkCatalogWriter} is supplied, each search result is
+     * written in a single batched transaction. Otherwise every entity is
+     * checked and saved individually through the repositories.</p>
+     *
+     * @param apiClient            client used to fetch data from the iTunes API
+     * @param songRepo             repository for {@link Song} entities
+     * @param albumRepo            repository for {@link Album} entities
+     * @param artistRepo           repository for {@link Artist} entities
+     * @param playlistRepo         repository for {@link Playlist} entities
+     * @param bulkWriter           writer used for bulk ingest, or {@code null} to save entities one by one
+     * @param maxConcurrentFetches maximum number of search terms fetched at once
+     * @throws IllegalArgumentException if {@code maxConcurrentFetches} is less than 1
+     */
+    public DatabaseInitializer(ItunesApiClient apiClient, SongRepository songRepo, AlbumRepository albumRepo, ArtistRepository artistRepo, PlaylistRepository playlistRepo, BulkCatalogWriter bulkWriter, int maxConcurrentFetches) {
+        this(apiClient, songRepo, albumRepo, artistRepo, playlistRepo, null, bulkWriter, SeedList.defaults(), maxConcurrentFetches);
+    }
+
+    /**
+     * Creates a new database initializer with a custom ingest configuration.
+     *
+     * @param apiClient            client used to fetch data from the iTunes API
+     * @param songRepo             repository for {@link Song} entities
+     * @param albumRepo            repository for {@link Album} entities
+     * @param artistRepo           repository for {@link Artist} entities
+     * @param playlistRepo         repository for {@link Playlist} entities
+     * @param checkpoints          repository recording per-term progress, or {@code null} to
+     *                             ingest all seeds into an empty database without checkpoints
+     * @param bulkWriter           writer used for bulk ingest, or {@code null} to save entities one by one
+     * @param seeds                search terms to ingest
+     * @param maxConcurrentFetches maximum number of search terms fetched at once
+     * @throws IllegalArgumentException if {@code seeds} is {@code null} or {@code maxConcurrentFetches} is less than 1
+     */
+    public DatabaseInitializer(ItunesApiClient apiClient, SongRepository songRepo, AlbumRepository albumRepo, ArtistRepository artistRepo, PlaylistRepository playlistRepo,
+                               IngestCheckpointRepository checkpoints, BulkCatalogWriter bulkWriter, List<String> seeds, int maxConcurrentFetches) {
+        if (seeds == null || maxConcurrentFetches < 1) {
+            logger.error("DatabaseInitializer: invalid seeds {} or maxConcurrentFetches {}", seeds, maxConcurrentFetches);
+            throw new IllegalArgumentException("seeds cannot be null and maxConcurrentFetches must be at least 1");
+        }
         this.apiClient = apiClient;
         this.songRepo = songRepo;
         this.albumRepo = albumRepo;
         this.artistRepo = artistRepo;
         this.playlistRepo = playlistRepo;
+        this.checkpoints = checkpoints;
+        this.bulkWriter = bulkWriter;
+        this.seeds = List.copyOf(seeds);
+        this.maxConcurrentFetches = maxConcurrentFetches;
     }
 
     /**
      * Initializes the database with music data and default playlists.
      *
-     * <p>If the song table is empty, a predefined set of artist searches
-     * is executed against the iTunes API. The resulting artists, albums,
-     * and songs are persisted while avoiding duplicates.</p>
+     * <p>Every seed term that has not been completed is searched for
+     * against the iTunes API, resuming partially ingested terms after
+     * their last persisted page. Without checkpoints, all seeds are
+     * ingested only if the song table is empty. The resulting artists,
+     * albums, and songs are persisted while avoiding duplicates.</p>
      *
-     * <p>The method also ensures that required default playlists
-     * ("Library" and "Favorites") exist.</p>
+     * <p>A failing search term does not prevent the remaining terms from
+     * being fetched and persisted. Failures are logged, and failed terms
+     * stay incomplete so that the next run retries them.</p>
      *
-     * @throws RuntimeException if data fetching or persistence fails
+     * <p>The method also ensures that required default playlists
+     * ("Library" and "Favorites") exist. They are created before the
+     * ingest, and the songs of every persisted page are added to the
+     * library by identifier before the page is checkpointed, so the cost
+     * depends on the size of the run rather than of the catalog and an
+     * interrupted run never leaves completed terms outside the library.</p>
      */
     public void init() {
-        // Check if database is populated, populate if empty
-        if (songRepo.count() == 0) { // Limited artist set due to project scope
-            List<String> searches = List.of("the+war+on+drugs",
-                "refused",
-                "thrice",
-                "16+horsepower",
-                "viagra+boys",
-                "geese",
-                "ghost",
-                "run+the+jewels",
-                "rammstein",
-                "salvatore+ganacci",
-                "baroness"
-            );
-            for (String term : searches) {
+        Map<String, Exception> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        Map<String, IngestCheckpoint> progress = checkpoints == null ? Map.of() : checkpoints.findAll();
+        List<String> pending = seeds.stream()
+            .filter(term -> !progress.containsKey(term) || !progress.get(term).isCompleted())
+            .toList();
+        // Ensure default playlists exist before ingested songs are added to the library
+        if (!playlistRepo.existsByUniqueId(1L)) {
+            Playlist library = playlistRepo.createPlaylist("Library");
+            playlistRepo.addSongs(library, songRepo.findAll());
+        }
+        if (!playlistRepo.existsByUniqueId(2L)) {
+            playlistRepo.createPlaylist("Favorites");
+        }
+
+        if (!pending.isEmpty() && (checkpoints != null || songRepo.count() == 0)) {
+            logger.info("init: ingesting {} of {} search terms", pending.size(), seeds.size());
+            ingest(pending, progress, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            logger.error("init: {} search terms failed and will be retried on the next run: {}", failures.size(), failures.keySet());
+        }
+    }
+
+    /**
+     * Fetches all search terms concurrently on virtual threads and persists
+     * the resulting pages on the calling thread as they arrive.
+     *
+     * <p>At most {@code maxConcurrentFetches} terms are fetched at any time.
+     * A failing term is recorded in {@code failures} and does not affect the
+     * other terms; pages of a term that already failed are discarded. The
+     * songs of each persisted page are added to the library before the page
+     * is checkpointed, and a term is marked completed once all of its pages
+     * have been persisted. Pages persisted by an earlier run are only added
+     * to the library, as that run may have stopped before doing so.</p>
+     *
+     * @param terms    search terms to fetch
+     * @param progress checkpoints recorded by earlier runs, keyed by term
+     * @param failures thread-safe map receiving the exception of every failed term
+     */
+    private void ingest(List<String> terms, Map<String, IngestCheckpoint> progress, Map<String, Exception> failures) {
+        IngestResolutionCache resolved = new IngestResolutionCache();
+        IngestProgress runProgress = new IngestProgress(terms.size());
+        Semaphore permits = new Semaphore(maxConcurrentFetches);
+        BlockingQueue<FetchedPage> pages = new ArrayBlockingQueue<>(maxConcurrentFetches * 2);
+
+        // Closing the executor waits for every submitted fetch to complete
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String term : terms) {
+                IngestCheckpoint checkpoint = progress.get(term);
+                int pagesDone = checkpoint == null ? 0 : checkpoint.getPagesDone();
+                executor.submit(() -> fetchTerm(term, pagesDone, permits, pages, failures));
+            }
+
+            int remaining = terms.size();
+            while (remaining > 0) {
+                FetchedPage page;
                 try {
-                    apiClient.searchSongs(term).forEach(dto -> {
-                        Artist ar = Artist.fromDTO(dto);
-                        if (!artistRepo.existsByUniqueId(ar)) {
-                            artistRepo.save(ar);
-                        }
+                    page = pages.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    throw new RuntimeException("Interrupted while ingesting search results", e);
+                }
 
-                        Album al = Album.fromDTO(dto, ar);
-                        if (!albumRepo.existsByUniqueId(al)) {
-                            albumRepo.save(al);
+                if (page.isEndOfTerm()) {
+                    remaining--;
+                    if (checkpoints != null && !failures.containsKey(page.term())) {
+                        try {
+                            checkpoints.markCompleted(page.term());
+                        } catch (RuntimeException e) {
+                            logger.error("ingest: checkpoint failed for term: {}", page.term(), e);
+                            failures.put(page.term(), e);
                         }
-
-                        Song s = Song.fromDTO(dto, al);
-                        if (!songRepo.existsByUniqueId(s)) {
-                            songRepo.save(s);
+                    }
+                    runProgress.termFinished();
+                } else if (!failures.containsKey(page.term())) {
+                    try {
+                        List<Long> songIds = page.songs().stream().map(ItunesDTO::trackId).toList();
+                        if (page.persisted()) {
+                            // Songs of a replayed page may since have been deleted
+                            playlistRepo.addSongs(1L, songRepo.existingIds(songIds));
+                        } else {
+                            persist(page.songs(), resolved);
+                            playlistRepo.addSongs(1L, songIds);
+                            if (checkpoints != null) {
+                                checkpoints.recordPage(page.term(), page.songs().size());
+                            }
+                            runProgress.pagePersisted(page.songs().size());
                         }
-                    });
-                } catch (Exception e) {
-                    logger.error("init: search or persist failed for term: {}", term, e);
-                    throw new RuntimeException("Failed to fetch or persist data for search term: " + term, e);
+                    } catch (Exception e) {
+                        logger.error("ingest: persist failed for term: {}", page.term(), e);
+                        failures.put(page.term(), e);
+                    }
                 }
             }
         }
 
-        // Ensure default playlists exist
-        if (!playlistRepo.existsByUniqueId(1L)) {
-            Playlist library = playlistRepo.createPlaylist("Library");
-            playlistRepo.addSongs(library, songRepo.findAll());
+        logger.info("ingest: resolved {} artists and {} albums, served {} artist and {} album lookups from memory",
+            resolved.artistCount(), resolved.albumCount(), resolved.artistHits(), resolved.albumHits());
+    }
+
+    /**
+     * Pages through a single search term and hands every page to the
+     * persisting thread, followed by an end-of-term marker.
+     *
+     * <p>Pages persisted by an earlier run are skipped. They are still
+     * requested to find the resume position, but are usually served by the
+     * client's response cache. They are handed over marked as persisted,
+     * so that their songs can still be added to the library.</p>
+     *
+     * @param term      search term to fetch
+     * @param pagesDone number of leading pages persisted by an earlier run
+     * @param permits   semaphore bounding the number of terms fetched at once
+     * @param pages     queue receiving fetched pages; blocks the fetch while full
+     * @param failures  thread-safe map receiving the exception if the term fails
+     */
+    private void fetchTerm(String term, int pagesDone, Semaphore permits, BlockingQueue<FetchedPage> pages,
+                           Map<String, Exception> failures) {
+        try {
+            permits.acquire();
+            try (Stream<List<ItunesDTO>> results = apiClient.searchPages(term)) {
+                Iterator<List<ItunesDTO>> it = results.iterator();
+                for (int page = 0; it.hasNext(); page++) {
+                    pages.put(new FetchedPage(term, it.next(), page < pagesDone));
+                }
+            } catch (RuntimeException e) {
+                logger.error("fetchTerm: search failed for term: {}", term, e);
+                failures.put(term, e);
+            } finally {
+                permits.release();
+            }
+            pages.put(new FetchedPage(term, null, false));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(term, e);
         }
-        if (!playlistRepo.existsByUniqueId(2L)) {
-            playlistRepo.createPlaylist("Favorites");
+    }
+
+    /**
+     * Persists the artists, albums, and songs of a single search result,
+     * skipping entities that already exist.
+     *
+     * <p>Uses the bulk writer when one is configured, otherwise saves
+     * every entity individually through the repositories.</p>
+     *
+     * @param results  search results to persist
+     * @param resolved artists and albums resolved earlier in the current run
+     */
+    void persist(List<ItunesDTO> results, IngestResolutionCache resolved) {
+        if (bulkWriter != null) {
+            bulkWriter.write(results, resolved);
+            return;
+        }
+
+        // Resolve existing ids once per search result instead of once per row,
+        // skipping artists and albums resolved by earlier results
+        Set<Long> artistIds = new HashSet<>(artistRepo.existingIds(resolved.unresolvedArtistIds(results)));
+        Set<Long> albumIds = new HashSet<>(albumRepo.existingIds(resolved.unresolvedAlbumIds(results)));
+        Set<Long> songIds = new HashSet<>(songRepo.existingIds(results.stream().map(ItunesDTO::trackId).toList()));
+
+        for (ItunesDTO dto : results) {
+            Artist ar = resolved.artist(dto.artistId());
+            if (ar == null) {
+                ar = Artist.fromDTO(dto);
+                if (!artistIds.contains(ar.getId())) {
+                    artistRepo.save(ar);
+                }
+                resolved.resolved(ar);
+            }
+
+            Album al = resolved.album(dto.collectionId());
+            if (al == null) {
+                al = Album.fromDTO(dto, ar);
+                if (!albumIds.contains(al.getId())) {
+                    albumRepo.save(al);
+                }
+                resolved.resolved(al);
+            }
+
+            Song s = Song.fromDTO(dto, al);
+            if (songIds.add(s.getId())) {
+                songRepo.save(s);
+            }
         }
     }
 }
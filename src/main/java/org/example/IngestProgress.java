@@ -0,0 +1,99 @@
+package org.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the progress of an ingest run and periodically logs throughput and
+ * an estimated time to completion.
+ *
+ * <p>The estimate extrapolates the average time per finished term of the
+ * current run to the remaining terms. Terms skipped because an earlier run
+ * completed them are not counted. Instances are not thread-safe; ingest
+ * reports progress from its persisting thread only.</p>
+ */
+class IngestProgress {
+    private static final Logger logger = LoggerFactory.getLogger(IngestProgress.class);
+
+    /** Minimum time between two progress log lines. */
+    static final Duration REPORT_INTERVAL = Duration.ofSeconds(5);
+
+    private final int totalTerms;
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private long lastReportNanos;
+    private int finishedTerms;
+    private long rows;
+
+    /**
+     * Progress of an ingest run.
+     *
+     * @param finishedTerms terms finished in this run, successfully or not
+     * @param totalTerms    terms to ingest in this run
+     * @param rows          results persisted in this run
+     * @param rowsPerSecond persisted results per second since the run started
+     * @param eta           estimated time until all terms are finished, or {@code null} before the first term finished
+     */
+    record Snapshot(int finishedTerms, int totalTerms, long rows, double rowsPerSecond, Duration eta) {
+    }
+
+    /**
+     * Starts tracking a run.
+     *
+     * @param totalTerms number of terms to ingest in this run
+     */
+    IngestProgress(int totalTerms) {
+        this(totalTerms, System::nanoTime);
+    }
+
+    /**
+     * Starts tracking a run with a custom time source.
+     *
+     * @param totalTerms number of terms to ingest in this run
+     * @param nanoTime   monotonic time source in nanoseconds
+     */
+    IngestProgress(int totalTerms, LongSupplier nanoTime) {
+        this.totalTerms = totalTerms;
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+        this.lastReportNanos = startNanos;
+    }
+
+    /**
+     * Records a persisted page.
+     *
+     * @param pageRows number of results on the page
+     */
+    void pagePersisted(int pageRows) {
+        rows += pageRows;
+    }
+
+    /**
+     * Records a finished term and logs the progress if the report interval
+     * has passed or the run is complete.
+     */
+    void termFinished() {
+        finishedTerms++;
+        long now = nanoTime.getAsLong();
+        if (finishedTerms == totalTerms || now - lastReportNanos >= REPORT_INTERVAL.toNanos()) {
+            lastReportNanos = now;
+            Snapshot s = snapshot();
+            logger.info("termFinished: {}/{} terms, {} rows, {} rows/s, eta {}", s.finishedTerms(), s.totalTerms(),
+                s.rows(), String.format("%.0f", s.rowsPerSecond()), s.eta());
+        }
+    }
+
+    /**
+     * @return the current progress
+     */
+    Snapshot snapshot() {
+        long elapsed = Math.max(1, nanoTime.getAsLong() - startNanos);
+        double rowsPerSecond = rows / (elapsed / 1_000_000_000.0);
+        Duration eta = finishedTerms == 0 ? null
+            : Duration.ofNanos(elapsed / finishedTerms * (totalTerms - finishedTerms));
+        return new Snapshot(finishedTerms, totalTerms, rows, rowsPerSecond, eta);
+    }
+}
@@ -1,20 +1,41 @@
 package org.example;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.URL;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Client for interacting with the iTunes Search API.
@@ -25,12 +46,78 @@ import java.util.List;
  *
  * <p>It performs basic response validation and result filtering
  * to ensure that only relevant data is returned.</p>
+ *
+ * <p>Responses can optionally be kept in an {@link ItunesResponseCache},
+ * which serves repeated searches from disk and allows seeding the
+ * database without network access once the cache is warm.</p>
+ *
+ * <p>Complete artist catalogs are retrieved with {@link #searchPages(String)},
+ * which pages through the API using {@code offset}/{@code limit} and only
+ * requests the next page when the consumer asks for it.</p>
+ *
+ * <p>Requests pass through an {@link AdaptiveConcurrencyLimiter} shared by
+ * all callers of the client, so concurrent searches settle at the rate the
+ * API accepts. Throttling responses ({@code 403}, {@code 429},
+ * {@code 503}) and failed requests are retried with jittered exponential
+ * backoff, honouring {@code Retry-After}; see {@link #metrics()} for the
+ * current limit and counters.</p>
  */
 
 public class ItunesApiClient {
     private static final Logger logger = LoggerFactory.getLogger(ItunesApiClient.class);
+
+    /** Search endpoint of the public iTunes Search API. */
+    public static final URI DEFAULT_SEARCH_URI = URI.create("https://itunes.apple.com/search");
+
+    /** Number of results returned by {@link #searchSongs(String)}. */
+    public static final int SEARCH_LIMIT = 20;
+
+    /** Default page size for {@link #searchPages(String)}, the maximum the API accepts. */
+    public static final int DEFAULT_PAGE_SIZE = 200;
+
+    /** Default number of attempts per request, including the first one. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 4;
+
+    /** Default delay before the first retry; doubled for every further retry. */
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(500);
+
+    /** Upper bound for a single retry delay, including {@code Retry-After}. */
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    /** Status codes the API uses to signal that requests arrive too fast. */
+    private static final Set<Integer> THROTTLING_STATUSES = Set.of(403, 429, 503);
+
     private final HttpClient client;
     private final ObjectMapper mapper;
+    private final URI searchUri;
+    private final ItunesResponseCache cache;
+    private final int pageSize;
+    private final int artistMaxEdits;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * Request metrics of a client.
+     *
+     * @param limit     requests currently allowed in flight
+     * @param inFlight  requests currently in flight
+     * @param throttled throttling responses received
+     * @param dropped   requests that failed without a response
+     * @param retries   requests sent again after throttling or failure
+     */
+    public record Metrics(int limit, int inFlight, long throttled, long dropped, long retries) {
+    }
+
+    /**
+     * A single page of search results.
+     *
+     * @param songs       results matching the search term
+     * @param resultCount number of results in the page before filtering
+     */
+    private record SearchPage(List<ItunesDTO> songs, int resultCount) {
+    }
 
     /**
      * Creates a new iTunes API client.
@@ -39,87 +126,611 @@ public class ItunesApiClient {
      * {@link ObjectMapper} with Java Time support.</p>
      */
     public ItunesApiClient() {
+        this(null);
+    }
+
+    /**
+     * Creates a new iTunes API client backed by a response cache.
+     *
+     * @param cache on-disk response cache, or {@code null} to always query the API
+     */
+    public ItunesApiClient(ItunesResponseCache cache) {
+        this(DEFAULT_SEARCH_URI, cache, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new iTunes API client against a custom search endpoint.
+     *
+     * @param searchUri search endpoint, e.g. a local stub server in tests
+     * @param cache     on-disk response cache, or {@code null} to always query the API
+     * @param pageSize  number of results requested per page by {@link #searchPages(String)}
+     * @throws IllegalArgumentException if {@code pageSize} is less than 1
+     */
+    public ItunesApiClient(URI searchUri, ItunesResponseCache cache, int pageSize) {
+        this(searchUri, cache, pageSize, 0);
+    }
+
+    /**
+     * Creates a new iTunes API client that tolerates small spelling
+     * differences between the search term and result artist names.
+     *
+     * @param searchUri      search endpoint, e.g. a local stub server in tests
+     * @param cache          on-disk response cache, or {@code null} to always query the API
+     * @param pageSize       number of results requested per page by {@link #searchPages(String)}
+     * @param artistMaxEdits maximum edit distance between the search term and an
+     *                       artist name, see {@link ArtistMatcher}
+     * @throws IllegalArgumentException if {@code pageSize} is less than 1 or {@code artistMaxEdits} is negative
+     */
+    public ItunesApiClient(URI searchUri, ItunesResponseCache cache, int pageSize, int artistMaxEdits) {
+        this(searchUri, cache, pageSize, artistMaxEdits, new AdaptiveConcurrencyLimiter(), DEFAULT_MAX_ATTEMPTS, DEFAULT_BACKOFF);
+    }
+
+    /**
+     * Creates a new iTunes API client with custom request throttling.
+     *
+     * @param searchUri      search endpoint, e.g. a local stub server in tests
+     * @param cache          on-disk response cache, or {@code null} to always query the API
+     * @param pageSize       number of results requested per page by {@link #searchPages(String)}
+     * @param artistMaxEdits maximum edit distance between the search term and an
+     *                       artist name, see {@link ArtistMatcher}
+     * @param limiter        limiter bounding the number of concurrent requests
+     * @param maxAttempts    number of attempts per request, including the first one
+     * @param backoff        delay before the first retry
+     * @throws IllegalArgumentException if {@code pageSize} or {@code maxAttempts} is less than 1 or {@code artistMaxEdits} is negative
+     */
+    public ItunesApiClient(URI searchUri, ItunesResponseCache cache, int pageSize, int artistMaxEdits,
+                           AdaptiveConcurrencyLimiter limiter, int maxAttempts, Duration backoff) {
+        if (pageSize < 1 || artistMaxEdits < 0 || maxAttempts < 1) {
+            logger.error("ItunesApiClient: invalid pageSize {}, artistMaxEdits {} or maxAttempts {}", pageSize, artistMaxEdits, maxAttempts);
+            throw new IllegalArgumentException("pageSize and maxAttempts must be at least 1 and artistMaxEdits non-negative");
+        }
         this.client = HttpClient.newHttpClient();
         this.mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        this.searchUri = searchUri;
+        this.cache = cache;
+        this.pageSize = pageSize;
+        this.artistMaxEdits = artistMaxEdits;
+        this.limiter = limiter;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    /**
+     * @return the current request limit and throttling counters
+     */
+    public Metrics metrics() {
+        return new Metrics(limiter.limit(), limiter.inFlight(), limiter.throttled(), limiter.dropped(), retries.get());
     }
 
     /**
      * Searches for songs by artist name using the iTunes Search API.
      *
      * <p>The search results are filtered so that only songs whose
-     * artist name matches the provided term (after normalization)
+     * artist name matches the provided term (see {@link ArtistMatcher})
      * are returned.</p>
      *
+     * <p>The response is requested with gzip/deflate content encoding and
+     * decoded as a stream, binding each result directly to an
+     * {@link ItunesDTO}. The artist filter is applied while parsing, so
+     * rejected results are skipped without being materialized.</p>
+     *
+     * <p>When a cache is configured, fresh cached responses are used
+     * without contacting the API, see {@link #fetchCached(URI, String)}.</p>
+     *
+     * <p>Only the first {@value #SEARCH_LIMIT} results are requested; use
+     * {@link #searchPages(String)} to retrieve an artist's full catalog.</p>
+     *
      * @param term artist search term
      * @return list of matching {@link ItunesDTO} objects
      * @throws Exception if the HTTP request or JSON parsing fails
      */
     public List<ItunesDTO> searchSongs(String term) throws Exception {
+        return searchPage(term, 0, SEARCH_LIMIT).songs();
+    }
+
+    /**
+     * Searches the iTunes Store for songs matching a free-text query.
+     *
+     * <p>Unlike {@link #searchSongs(String)}, the query is matched against
+     * all song attributes by the API and the results are not filtered by
+     * artist, so partial queries and song titles find songs as well. The
+     * response cache is used in the same way.</p>
+     *
+     * <p>Only the first {@value #SEARCH_LIMIT} results are requested.</p>
+     *
+     * @param query free-text search query
+     * @return matching {@link ItunesDTO} objects in relevance order
+     * @throws IOException          if the HTTP request or JSON parsing fails
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public List<ItunesDTO> searchStore(String query) throws IOException, InterruptedException {
+        URI uri = URI.create(searchUri + "?term=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+            + "&entity=song&limit=" + SEARCH_LIMIT);
+        return fetchPage(uri, null).songs();
+    }
+
+    /**
+     * Lazily pages through all songs of an artist.
+     *
+     * <p>Each element of the returned stream is one page of matching
+     * results. A page is only requested when the stream consumer pulls
+     * it, so a slow consumer naturally throttles the requests and memory
+     * use stays bounded by the page size, however large the catalog.</p>
+     *
+     * <p>Paging stops when the API returns fewer results than requested.
+     * Pages whose results are all rejected by the artist filter are
+     * skipped.</p>
+     *
+     * @param term artist search term
+     * @return ordered, lazy stream of non-empty result pages
+     * @throws UncheckedIOException if a page cannot be fetched or parsed
+     */
+    public Stream<List<ItunesDTO>> searchPages(String term) {
+        Iterator<List<ItunesDTO>> pages = new Iterator<>() {
+            private int offset = 0;
+            private boolean exhausted = false;
+            private List<ItunesDTO> next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && !exhausted) {
+                    SearchPage page;
+                    try {
+                        page = searchPage(term, offset, pageSize);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new UncheckedIOException(new InterruptedIOException("Interrupted while paging " + term));
+                    }
+                    offset += pageSize;
+                    exhausted = page.resultCount() < pageSize;
+                    if (!page.songs().isEmpty()) {
+                        next = page.songs();
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public List<ItunesDTO> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<ItunesDTO> page = next;
+                next = null;
+                return page;
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Fetches a single page of search results.
+     *
+     * @param term   artist search term
+     * @param offset index of the first result
+     * @param limit  maximum number of results
+     * @return the filtered page together with its unfiltered size
+     * @throws IOException          if the HTTP request or JSON parsing fails
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private SearchPage searchPage(String term, int offset, int limit) throws IOException, InterruptedException {
         String encodedTerm = URLEncoder.encode(term, StandardCharsets.UTF_8);
-        String url = "https://itunes.apple.com/search?term=" + encodedTerm + "&entity=song&attribute=artistTerm&limit=20";
+        URI uri = URI.create(searchUri + "?term=" + encodedTerm + "&entity=song&attribute=artistTerm"
+            + "&limit=" + limit + "&offset=" + offset);
+        return fetchPage(uri, new ArtistMatcher(term, artistMaxEdits));
+    }
 
-        HttpRequest request = HttpRequest.newBuilder()
-            .GET()
-            .uri(URI.create(url))
-            .timeout(Duration.ofSeconds(10))
-            .build();
+    /**
+     * Fetches and parses a search response, through the cache if one is
+     * configured.
+     *
+     * @param uri     search request URI
+     * @param matcher matcher results must pass, or {@code null} to keep every result
+     * @return the filtered page together with its unfiltered size
+     * @throws IOException          if the HTTP request or JSON parsing fails
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private SearchPage fetchPage(URI uri, ArtistMatcher matcher) throws IOException, InterruptedException {
+        if (cache != null) {
+            try (InputStream body = new ByteArrayInputStream(fetchCached(uri, uri.getRawQuery()))) {
+                return parseResults(body, matcher);
+            }
+        }
 
-        HttpResponse<String> response =
-            client.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<InputStream> response = send(newRequest(uri).build());
 
         // Validate HTTP response
         if (response.statusCode() != 200) {
-            logger.error("searchSongs: status code {}", response.statusCode());
+            response.body().close();
+            logger.error("fetchPage: status code {}", response.statusCode());
             throw new RuntimeException("API error: " + response.statusCode());
         }
 
-        // Parse JSON response
-        JsonNode root = mapper.readTree(response.body());
-        JsonNode results = root.get("results");
-        if (results == null || !results.isArray()) {
-            logger.debug("searchSongs: no results");
-            return List.of();
+        try (InputStream body = decodeBody(response)) {
+            return parseResults(body, matcher);
         }
+    }
 
-        String normalizedTerm = normalize(term);
-
-        List<ItunesDTO> songs = new ArrayList<>();
-        for (JsonNode node : results) {
-            ItunesDTO song = mapper.treeToValue(node, ItunesDTO.class);
+    /**
+     * Creates a request builder with the common timeout and encoding headers.
+     *
+     * @param uri request URI
+     * @return a preconfigured GET request builder
+     */
+    private HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder()
+            .GET()
+            .uri(uri)
+            .timeout(Duration.ofSeconds(10))
+            .header("Accept-Encoding", "gzip, deflate");
+    }
 
-            if (song.artistName() == null) {
-                logger.warn("searchSongs: artistName is null");
+    /**
+     * Sends a request through the concurrency limiter, retrying throttling
+     * responses and failed requests with jittered exponential backoff.
+     *
+     * <p>The permit of a request that received a response is held until its
+     * body has been closed, see {@link PermitBody}. The caller must therefore
+     * close the body of the returned response.</p>
+     *
+     * @param request request to send
+     * @return the first response that is not throttling, or the last
+     * throttling response once every attempt has been used
+     * @throws IOException          if the last attempt fails without a response
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private HttpResponse<InputStream> send(HttpRequest request) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            limiter.acquire();
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response;
+            try {
+                response = client.send(request, info -> {
+                    long latency = System.nanoTime() - start;
+                    return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                        body -> new PermitBody(body, info.statusCode(), latency));
+                });
+            } catch (IOException e) {
+                limiter.onDropped();
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                logger.debug("send: {} failed on attempt {}", request.uri(), attempt, e);
+                retries.incrementAndGet();
+                Thread.sleep(retryDelay(attempt, Optional.empty()));
                 continue;
+            } catch (InterruptedException | RuntimeException e) {
+                limiter.onCancelled();
+                throw e;
+            }
+
+            if (!THROTTLING_STATUSES.contains(response.statusCode())) {
+                return response;
+            }
+            if (attempt >= maxAttempts) {
+                logger.warn("send: {} still throttled after {} attempts", request.uri(), attempt);
+                return response;
+            }
+            response.body().close();
+            logger.debug("send: {} throttled with status {} on attempt {}, limit now {}",
+                request.uri(), response.statusCode(), attempt, limiter.limit());
+            retries.incrementAndGet();
+            Thread.sleep(retryDelay(attempt, response.headers().firstValue("Retry-After")));
+        }
+    }
+
+    /**
+     * Computes the delay before a retry. The exponential delay is jittered
+     * between half and all of its value, so clients throttled together do
+     * not retry in lockstep. A longer {@code Retry-After} given in seconds
+     * takes precedence.
+     *
+     * @param attempt    number of the attempt that failed, starting at 1
+     * @param retryAfter value of the {@code Retry-After} header, if any
+     * @return the delay to wait, at most {@link #MAX_BACKOFF}
+     */
+    private Duration retryDelay(int attempt, Optional<String> retryAfter) {
+        long exponential = Math.min(MAX_BACKOFF.toMillis(), backoff.toMillis() << Math.min(attempt - 1, 20));
+        long delay = exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+        if (retryAfter.isPresent()) {
+            try {
+                delay = Math.max(delay, Duration.ofSeconds(Long.parseLong(retryAfter.get().trim())).toMillis());
+            } catch (NumberFormatException e) {
+                // HTTP-date values are rare for this API; keep the computed delay
+            }
+        }
+        return Duration.ofMillis(Math.min(delay, MAX_BACKOFF.toMillis()));
+    }
+
+    /**
+     * Resolves a response body through the response cache.
+     *
+     * <p>A fresh entry is returned without a request. A stale entry is
+     * revalidated with {@code If-None-Match}/{@code If-Modified-Since} when
+     * validators are known. If the API cannot be reached or answers with an
+     * error, a stale entry is served instead of failing.</p>
+     *
+     * @param uri request URI
+     * @param key cache key derived from the request query
+     * @return the cached, decoded response body
+     * @throws IOException          if the request fails and no cached entry exists
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private byte[] fetchCached(URI uri, String key) throws IOException, InterruptedException {
+        Optional<ItunesResponseCache.Entry> cached = cache.lookup(key);
+        if (cached.isPresent() && cache.isFresh(cached.get())) {
+            logger.debug("fetchCached: cache hit for {}", key);
+            return cached.get().body();
+        }
+
+        HttpRequest.Builder request = newRequest(uri);
+        cached.ifPresent(entry -> {
+            if (entry.etag() != null) {
+                request.header("If-None-Match", entry.etag());
+            }
+            if (entry.lastModified() != null) {
+                request.header("If-Modified-Since", entry.lastModified());
+            }
+        });
+
+        HttpResponse<InputStream> response;
+        try {
+            response = send(request.build());
+        } catch (IOException e) {
+            if (cached.isPresent()) {
+                logger.warn("fetchCached: API unreachable, serving stale entry for {}", key);
+                return cached.get().body();
+            }
+            throw e;
+        }
+
+        int status = response.statusCode();
+        if (status == 304 && cached.isPresent()) {
+            response.body().close();
+            logger.debug("fetchCached: revalidated {}", key);
+            return cache.revalidated(key, cached.get()).body();
+        }
+        if (status != 200) {
+            response.body().close();
+            if (cached.isPresent()) {
+                logger.warn("fetchCached: status code {}, serving stale entry for {}", status, key);
+                return cached.get().body();
+            }
+            logger.error("fetchCached: status code {}", status);
+            throw new RuntimeException("API error: " + status);
+        }
+
+        try (InputStream body = decodeBody(response)) {
+            return cache.store(key, body,
+                response.headers().firstValue("ETag").orElse(null),
+                response.headers().firstValue("Last-Modified").orElse(null)).body();
+        }
+    }
+
+    /**
+     * Wraps the response body in a decompressing stream matching its
+     * {@code Content-Encoding} header.
+     *
+     * @param response HTTP response with a streamed body
+     * @return decoded body stream
+     * @throws IOException if the compressed stream header cannot be read
+     */
+    private InputStream decodeBody(HttpResponse<InputStream> response) throws IOException {
+        String encoding = response.headers()
+            .firstValue("Content-Encoding")
+            .orElse("identity")
+            .trim()
+            .toLowerCase();
+
+        try {
+            return switch (encoding) {
+                case "gzip", "x-gzip" -> new GZIPInputStream(response.body());
+                case "deflate" -> new InflaterInputStream(response.body());
+                default -> response.body();
+            };
+        } catch (IOException e) {
+            response.body().close();
+            throw e;
+        }
+    }
+
+    /**
+     * Response body that returns the limiter permit of its request once it
+     * has been closed, so a request counts as in flight until its body has
+     * been consumed.
+     *
+     * <p>Only {@code 2xx} and {@code 304} responses count as successful.
+     * Throttling responses back the limit off, as do other server errors and
+     * bodies that fail while being read. Any other status is released
+     * without adjusting the limit.</p>
+     */
+    private final class PermitBody extends FilterInputStream {
+        private final int status;
+        private final long latencyNanos;
+        private boolean failed;
+        private boolean released;
+
+        /**
+         * @param body         raw response body
+         * @param status       HTTP status code of the response
+         * @param latencyNanos time from sending the request to receiving the response headers
+         */
+        PermitBody(InputStream body, int status, long latencyNanos) {
+            super(body);
+            this.status = status;
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                failed = true;
+                throw e;
             }
+        }
 
-            String normalizedArtist = normalize(song.artistName());
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
 
-            if (normalizedTerm.equals(normalizedArtist)) {
-                songs.add(song);
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
             }
         }
 
-        return songs;
+        private synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (failed) {
+                limiter.onDropped();
+            } else if (THROTTLING_STATUSES.contains(status)) {
+                limiter.onThrottled();
+            } else if ((status >= 200 && status < 300) || status == 304) {
+                limiter.onSuccess(latencyNanos);
+            } else if (status >= 500) {
+                limiter.onDropped();
+            } else {
+                limiter.onCancelled();
+            }
+        }
     }
 
     /**
-     * Normalizes a string for comparison purposes.
+     * Streams the {@code results} array of a search response and collects
+     * every result whose artist matches the search term.
      *
-     * <p>The normalization process converts the string to lowercase,
-     * collapses whitespace and plus characters, and trims leading
-     * and trailing spaces.</p>
+     * @param body    decoded response body
+     * @param matcher matcher for the search term, or {@code null} to keep every result
+     * @return matching results in response order, with the unfiltered result count
+     * @throws IOException if the JSON is malformed
+     */
+    private SearchPage parseResults(InputStream body, ArtistMatcher matcher) throws IOException {
+        List<ItunesDTO> songs = new ArrayList<>();
+        boolean hasResults = false;
+        int resultCount = 0;
+
+        try (JsonParser parser = mapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object in search response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    hasResults = true;
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        resultCount++;
+                        ItunesDTO song = readResult(parser, matcher);
+                        if (song != null) {
+                            songs.add(song);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (!hasResults) {
+            logger.debug("searchSongs: no results");
+        }
+        return new SearchPage(songs, resultCount);
+    }
+
+    /**
+     * Binds a single result object to an {@link ItunesDTO}.
+     *
+     * <p>The parser must be positioned on the object's {@code START_OBJECT}
+     * token. Unknown fields are skipped. As soon as the artist name is
+     * known not to match, the rest of the object is skipped and
+     * {@code null} is returned.</p>
      *
-     * @param s input string
-     * @return normalized string, or an empty string if {@code s} is {@code null}
+     * @param parser  parser positioned at the start of a result object
+     * @param matcher matcher for the search term, or {@code null} to keep every result
+     * @return the bound DTO, or {@code null} if the result was rejected
+     * @throws IOException if the JSON is malformed
      */
-    public String normalize(String s) {
-        if (s == null) {
-            return "";
+    private ItunesDTO readResult(JsonParser parser, ArtistMatcher matcher) throws IOException {
+        Long artistId = null;
+        Long collectionId = null;
+        Long trackId = null;
+        String trackName = null;
+        String artistName = null;
+        String collectionName = null;
+        String country = null;
+        String primaryGenreName = null;
+        LocalDate releaseDate = null;
+        Long trackCount = null;
+        Long trackTimeMillis = null;
+        URL artworkUrl100 = null;
+        String previewUrl = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "artistId" -> artistId = parser.readValueAs(Long.class);
+                case "collectionId" -> collectionId = parser.readValueAs(Long.class);
+                case "trackId" -> trackId = parser.readValueAs(Long.class);
+                case "trackName" -> trackName = parser.getValueAsString();
+                case "artistName" -> {
+                    artistName = parser.getValueAsString();
+                    if (artistName != null && matcher != null && !matcher.matches(artistName)) {
+                        skipRemainingFields(parser);
+                        return null;
+                    }
+                }
+                case "collectionName" -> collectionName = parser.getValueAsString();
+                case "country" -> country = parser.getValueAsString();
+                case "primaryGenreName" -> primaryGenreName = parser.getValueAsString();
+                case "releaseDate" -> releaseDate = parser.readValueAs(LocalDate.class);
+                case "trackCount" -> trackCount = parser.readValueAs(Long.class);
+                case "trackTimeMillis" -> trackTimeMillis = parser.readValueAs(Long.class);
+                case "artworkUrl100" -> artworkUrl100 = parser.readValueAs(URL.class);
+                case "previewUrl" -> previewUrl = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
         }
-        return s.toLowerCase()
-            .replaceAll("[+\\s]+", " ")
-            .trim();
+
+        if (artistName == null) {
+            logger.warn("searchSongs: artistName is null");
+            return null;
+        }
+
+        return new ItunesDTO(artistId, collectionId, trackId, trackName, artistName, collectionName,
+            country, primaryGenreName, releaseDate, trackCount, trackTimeMillis, artworkUrl100, previewUrl);
     }
-}
 
+    /**
+     * Skips all remaining fields of the current JSON object, leaving the
+     * parser on its {@code END_OBJECT} token.
+     *
+     * @param parser parser positioned inside an object
+     * @throws IOException if the JSON is malformed
+     */
+    private static void skipRemainingFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+}
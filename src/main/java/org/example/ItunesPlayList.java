@@ -1,5 +1,6 @@
 package org.example;
 
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,11 +15,16 @@ import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import org.example.entity.Playlist;
 import org.example.entity.Song;
+import org.example.repo.BulkCatalogWriter;
 import org.example.repo.PlaylistRepository;
+import org.example.repo.PlaylistRow;
+import org.example.repo.SongRepository;
+import org.example.repo.SongRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Main JavaFX UI class for playlist and library management.
@@ -30,22 +36,54 @@ import java.util.List;
  * </p>
  *
  * <p>
- * The UI communicates with the persistence layer exclusively through
- * {@link PlaylistRepository}.
+ * The UI communicates with the persistence layer through
+ * {@link PlaylistRepository} and {@link SongRepository}. The sidebar lists
+ * {@link PlaylistRow} projections, and the song table shows {@link SongRow}
+ * projections of the selected playlist, loaded when it is opened. Songs are
+ * added to playlists and checked for membership by identifier; full
+ * {@link Song} entities are only looked up when a song is removed from a
+ * playlist.
+ * </p>
+ *
+ * <p>
+ * When a {@link StoreSearch} is configured, the "Store" toggle switches the
+ * search field from filtering the selected playlist to searching the iTunes
+ * Store as the user types. Store results are imported into the library
+ * with a single click.
  * </p>
  */
 public class ItunesPlayList {
     private static final Logger logger = LoggerFactory.getLogger(ItunesPlayList.class);
     private final PlaylistRepository pri;
+    private final SongRepository songRepo;
+    private final BulkCatalogWriter bulkWriter;
+    private final StoreSearch storeSearch;
     private Runnable onUpdateCallback;
 
+    /**
+     * Creates a new {@code ItunesPlayList} without store search.
+     *
+     * @param playlistRepository repository used for playlist persistence operations
+     * @param songRepository     repository used to list the songs of a playlist
+     */
+    public ItunesPlayList(PlaylistRepository playlistRepository, SongRepository songRepository) {
+        this(playlistRepository, songRepository, null, null);
+    }
+
     /**
      * Creates a new {@code ItunesPlayList}.
      *
      * @param playlistRepository repository used for playlist persistence operations
+     * @param songRepository     repository used to list the songs of a playlist and look up imported songs
+     * @param bulkWriter         writer persisting imported store results
+     * @param storeSearch        search against the iTunes Store, or {@code null} to disable the store
      */
-    public ItunesPlayList(PlaylistRepository playlistRepository) {
+    public ItunesPlayList(PlaylistRepository playlistRepository, SongRepository songRepository,
+                          BulkCatalogWriter bulkWriter, StoreSearch storeSearch) {
         this.pri = playlistRepository;
+        this.songRepo = songRepository;
+        this.bulkWriter = bulkWriter;
+        this.storeSearch = storeSearch;
     }
 
     /**
@@ -74,7 +112,12 @@ public class ItunesPlayList {
     /**
      * Observable list containing all playlists loaded from the database.
      */
-    private final ObservableList<Playlist> allPlaylistList = FXCollections.observableArrayList();
+    private final ObservableList<PlaylistRow> allPlaylistList = FXCollections.observableArrayList();
+
+    /**
+     * Observable list containing the songs of the selected playlist.
+     */
+    private final ObservableList<SongRow> playlistSongs = FXCollections.observableArrayList();
 
     // ---------------------------------------------------------------------
     // UI components
@@ -83,12 +126,22 @@ public class ItunesPlayList {
     /**
      * Table displaying the songs of the selected playlist.
      */
-    private final TableView<Song> songTable = new TableView<>();
+    private final TableView<SongRow> songTable = new TableView<>();
 
     /**
      * List view displaying available playlists.
      */
-    private final ListView<Playlist> sourceList = new ListView<>();
+    private final ListView<PlaylistRow> sourceList = new ListView<>();
+
+    /**
+     * Table displaying results of the iTunes Store search.
+     */
+    private final TableView<ItunesDTO> storeTable = new TableView<>();
+
+    /**
+     * Toggle switching the search field between the selected playlist and the store.
+     */
+    private final ToggleButton storeToggle = new ToggleButton("Store");
 
     /**
      * Text elements used in the LCD-style display at the top of the UI.
@@ -110,7 +163,7 @@ public class ItunesPlayList {
         // Load playlists asynchronously to avoid blocking the JavaFX thread
         new Thread(() -> {
             try {
-                List<Playlist> pls = pri.findAll();
+                List<PlaylistRow> pls = pri.findRows();
                 javafx.application.Platform.runLater(() -> {
                     allPlaylistList.setAll(pls);
                     if (!allPlaylistList.isEmpty()) {
@@ -142,9 +195,14 @@ public class ItunesPlayList {
         searchField.setPromptText("Search...");
         searchField.getStyleClass().add("itunes-search");
 
-        // Filter songs whenever the search text changes
-        searchField.textProperty()
-            .addListener((obs, old, newVal) -> filterSongs(newVal));
+        // Filter songs or search the store whenever the search text changes
+        searchField.textProperty().addListener((obs, old, newVal) -> {
+            if (storeToggle.isSelected()) {
+                searchStore(newVal);
+            } else {
+                filterSongs(newVal);
+            }
+        });
 
         topPanel.getChildren().addAll(
             createRoundButton("⏮"),
@@ -153,6 +211,10 @@ public class ItunesPlayList {
             lcdDisplay,
             searchField
         );
+        if (storeSearch != null) {
+            storeToggle.getStyleClass().add("itunes-button");
+            topPanel.getChildren().add(storeToggle);
+        }
 
         // -----------------------------------------------------------------
         // Left section (playlist navigation)
@@ -162,15 +224,15 @@ public class ItunesPlayList {
         sourceList.setPrefWidth(200);
 
         sourceList.setCellFactory(sl -> {
-            ListCell<Playlist> cell = new ListCell<>() {
+            ListCell<PlaylistRow> cell = new ListCell<>() {
                 @Override
-                protected void updateItem(Playlist playlist, boolean empty) {
+                protected void updateItem(PlaylistRow playlist, boolean empty) {
                     super.updateItem(playlist, empty);
                     if (empty || playlist == null) {
                         setText(null);
                         setContextMenu(null);
                     } else {
-                        setText(playlist.getName());
+                        setText(playlist.name());
                     }
                 }
             };
@@ -179,7 +241,7 @@ public class ItunesPlayList {
 
             MenuItem renameItem = new MenuItem("Change name");
             renameItem.setOnAction(event -> {
-                Playlist selected = cell.getItem();
+                PlaylistRow selected = cell.getItem();
                 if (selected != null) {
                     sourceList.getSelectionModel().select(selected);
                     renameSelectedPlaylist();
@@ -189,7 +251,7 @@ public class ItunesPlayList {
 
             MenuItem deleteItem = new MenuItem("Remove");
             deleteItem.setOnAction(event -> {
-                Playlist selected = cell.getItem();
+                PlaylistRow selected = cell.getItem();
                 if (selected != null) {
                     sourceList.getSelectionModel().select(selected);
                     deleteSelectedPlaylist();
@@ -213,12 +275,11 @@ public class ItunesPlayList {
             .selectedItemProperty()
             .addListener((obs, old, newVal) -> {
                 if (newVal != null) {
+                    storeToggle.setSelected(false);
                     searchField.clear();
-                    ObservableList<Song> songList
-                        = FXCollections.observableArrayList(
-                        newVal.getSongs().stream().toList()
-                    );
-                    songTable.setItems(songList);
+                    playlistSongs.clear();
+                    songTable.setItems(playlistSongs);
+                    loadSongs(newVal);
                 }
             });
 
@@ -226,6 +287,7 @@ public class ItunesPlayList {
         // Center section (song table)
         // -----------------------------------------------------------------
         setupTable();
+        setupStoreTable();
 
         // -----------------------------------------------------------------
         // Bottom section (playlist controls)
@@ -261,6 +323,20 @@ public class ItunesPlayList {
         SplitPane splitPane = new SplitPane(sourceList, songTable);
         splitPane.setDividerPositions(0.25);
 
+        // Swap the song table for the store results while the store is active
+        storeToggle.selectedProperty().addListener((obs, wasSelected, isSelected) -> {
+            double[] dividers = splitPane.getDividerPositions();
+            splitPane.getItems().set(1, isSelected ? storeTable : songTable);
+            splitPane.setDividerPositions(dividers);
+            searchField.setPromptText(isSelected ? "Search the iTunes Store..." : "Search...");
+            if (isSelected) {
+                searchStore(searchField.getText());
+            } else {
+                searchStore("");
+                filterSongs(searchField.getText());
+            }
+        });
+
         root.setTop(topPanel);
         root.setCenter(splitPane);
         root.setBottom(bottomPanel);
@@ -316,42 +392,36 @@ public class ItunesPlayList {
      * Configures the song table columns, selection behavior, and context menus.
      */
     private void setupTable() {
-        TableColumn<Song, String> titleCol = new TableColumn<>("Title");
+        TableColumn<SongRow, String> titleCol = new TableColumn<>("Title");
 
         titleCol.setCellValueFactory(d -> {
-            Song s = d.getValue();
-            if (s.getName() != null) {
-                return new SimpleStringProperty(s.getName());
+            SongRow s = d.getValue();
+            if (s.name() != null) {
+                return new SimpleStringProperty(s.name());
             }
             return new SimpleStringProperty("Unknown title");
         });
 
-        TableColumn<Song, String> artistCol = new TableColumn<>("Artist");
+        TableColumn<SongRow, String> artistCol = new TableColumn<>("Artist");
         artistCol.setCellValueFactory(d -> {
-            Song s = d.getValue();
-            if (s.getAlbum() != null && s.getAlbum().getArtist() != null && s.getAlbum().getArtist().getName() != null) {
-                return new SimpleStringProperty(s.getAlbum().getArtist().getName());
+            SongRow s = d.getValue();
+            if (s.artistName() != null) {
+                return new SimpleStringProperty(s.artistName());
             }
             return new SimpleStringProperty("Unknown artist");
         });
 
-        TableColumn<Song, String> albumCol = new TableColumn<>("Album");
+        TableColumn<SongRow, String> albumCol = new TableColumn<>("Album");
         albumCol.setCellValueFactory(d -> {
-            Song s = d.getValue();
-            if (s.getAlbum() != null && s.getAlbum().getName() != null) {
-                return new SimpleStringProperty(s.getAlbum().getName());
+            SongRow s = d.getValue();
+            if (s.albumName() != null) {
+                return new SimpleStringProperty(s.albumName());
             }
             return new SimpleStringProperty("Unknown album");
         });
 
-        TableColumn<Song, String> timeCol = new TableColumn<>("Length");
-        timeCol.setCellValueFactory(d -> {
-            Song s = d.getValue();
-            if (s.getFormattedLength() != null) {
-                return new SimpleStringProperty(s.getFormattedLength());
-            }
-            return new SimpleStringProperty("Unknown length");
-        });
+        TableColumn<SongRow, String> timeCol = new TableColumn<>("Length");
+        timeCol.setCellValueFactory(d -> new SimpleStringProperty(d.getValue().formattedLength()));
 
         songTable.getColumns().setAll(titleCol, artistCol, albumCol, timeCol);
         songTable.getStyleClass().add("song-table");
@@ -361,10 +431,10 @@ public class ItunesPlayList {
         // Update LCD display when clicking on a row in a table
         songTable.getSelectionModel().selectedItemProperty().addListener((obs, old, newVal) -> {
             if (newVal != null) {
-                lcdTitle.setText(newVal.getName());
+                lcdTitle.setText(newVal.name());
                 String artistName = "Unknown artist";
-                if (newVal.getAlbum() != null && newVal.getAlbum().getArtist() != null && newVal.getAlbum().getArtist().getName() != null) {
-                    artistName = newVal.getAlbum().getArtist().getName();
+                if (newVal.artistName() != null) {
+                    artistName = newVal.artistName();
                 }
                 lcdArtist.setText(artistName);
             }
@@ -372,7 +442,7 @@ public class ItunesPlayList {
 
         // Right click function, to add song to playlist and remove song from playlist
         songTable.setRowFactory(songTableView -> {
-            TableRow<Song> row = new TableRow<>();
+            TableRow<SongRow> row = new TableRow<>();
             ContextMenu contextMenu = new ContextMenu();
 
             row.setOnContextMenuRequested(e -> {
@@ -391,20 +461,21 @@ public class ItunesPlayList {
             // Update when showing ContextMenu
             contextMenu.setOnShowing(event -> {
                 addSongSubMenu.getItems().clear();
-                Song selectedSong = row.getItem();
+                SongRow selectedSong = row.getItem();
 
                 if (selectedSong != null && !allPlaylistList.isEmpty()) {
-                    for (Playlist pl : allPlaylistList) {
-                        if (pl.getId() != null && pl.getId().equals(1L)) continue;
-
-                        MenuItem playListItem = new MenuItem(pl.getName());
+                    // One indexed lookup marks the playlists already holding the song
+                    Set<Long> containing = playlistsContaining(selectedSong);
+                    for (PlaylistRow pl : allPlaylistList) {
+                        if (pl.id() != null && pl.id().equals(1L)) continue;
+
+                        CheckMenuItem playListItem = new CheckMenuItem(pl.name());
+                        playListItem.setSelected(containing.contains(pl.id()));
+                        playListItem.setDisable(playListItem.isSelected());
                         playListItem.setOnAction(e -> {
                             try {
-                                if (!pri.isSongInPlaylist(pl, selectedSong)) {
-                                    pri.addSong(pl, selectedSong);
-                                    pl.getSongs().add(selectedSong);
-                                }
-                            } catch (IllegalStateException ex) {
+                                pri.addSongs(pl.id(), List.of(selectedSong.id()));
+                            } catch (IllegalArgumentException ex) {
                                 logger.error("setupTable: add song failed", ex);
                                 new Alert(Alert.AlertType.ERROR, "Failed to add song: " + ex.getMessage()).showAndWait();
                             }
@@ -419,8 +490,8 @@ public class ItunesPlayList {
                     addSongSubMenu.getItems().add(emptyItem);
                 }
 
-                Playlist currentList = sourceList.getSelectionModel().getSelectedItem();
-                removeSongItem.setVisible(currentList != null && currentList.getId() != null && !currentList.getId().equals(1L));
+                PlaylistRow currentList = sourceList.getSelectionModel().getSelectedItem();
+                removeSongItem.setVisible(currentList != null && currentList.id() != null && !currentList.id().equals(1L));
             });
 
             contextMenu.getItems().addAll(addSongSubMenu, new SeparatorMenuItem(), removeSongItem);
@@ -436,6 +507,190 @@ public class ItunesPlayList {
         });
     }
 
+    /**
+     * Configures the store result columns, including a button that imports
+     * the result into the library.
+     */
+    private void setupStoreTable() {
+        TableColumn<ItunesDTO, String> titleCol = new TableColumn<>("Title");
+        titleCol.setCellValueFactory(d -> new SimpleStringProperty(
+            d.getValue().trackName() != null ? d.getValue().trackName() : "Unknown title"));
+
+        TableColumn<ItunesDTO, String> artistCol = new TableColumn<>("Artist");
+        artistCol.setCellValueFactory(d -> new SimpleStringProperty(
+            d.getValue().artistName() != null ? d.getValue().artistName() : "Unknown artist"));
+
+        TableColumn<ItunesDTO, String> albumCol = new TableColumn<>("Album");
+        albumCol.setCellValueFactory(d -> new SimpleStringProperty(
+            d.getValue().collectionName() != null ? d.getValue().collectionName() : "Unknown album"));
+
+        TableColumn<ItunesDTO, String> timeCol = new TableColumn<>("Length");
+        timeCol.setCellValueFactory(d -> {
+            Long millis = d.getValue().trackTimeMillis();
+            long seconds = millis != null ? millis / 1000 : 0;
+            return new SimpleStringProperty(String.format("%d:%02d", seconds / 60, seconds % 60));
+        });
+
+        TableColumn<ItunesDTO, ItunesDTO> importCol = new TableColumn<>("");
+        importCol.setCellValueFactory(d -> new SimpleObjectProperty<>(d.getValue()));
+        importCol.setCellFactory(col -> new TableCell<>() {
+            private final Button importButton = new Button("Add to Library");
+
+            {
+                importButton.getStyleClass().add("list-control-button");
+                importButton.setOnAction(e -> {
+                    ItunesDTO result = getItem();
+                    if (result != null) {
+                        importButton.setDisable(true);
+                        importStoreSong(result, () -> importButton.setDisable(false));
+                    }
+                });
+            }
+
+            @Override
+            protected void updateItem(ItunesDTO result, boolean empty) {
+                super.updateItem(result, empty);
+                setGraphic(empty || result == null ? null : importButton);
+                importButton.setDisable(false);
+            }
+        });
+
+        storeTable.getColumns().setAll(titleCol, artistCol, albumCol, timeCol, importCol);
+        storeTable.getStyleClass().add("song-table");
+        storeTable.setPlaceholder(new Label("Type to search the iTunes Store"));
+        storeTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+    }
+
+    /**
+     * Searches the iTunes Store for the given text. Requests are debounced
+     * and superseded by {@link StoreSearch}; only the results of the latest
+     * search reach the table.
+     *
+     * @param searchText the current search text
+     */
+    private void searchStore(String searchText) {
+        if (storeSearch == null) return;
+
+        storeSearch.search(searchText,
+            results -> javafx.application.Platform.runLater(() -> storeTable.getItems().setAll(results)),
+            error -> javafx.application.Platform.runLater(() -> {
+                storeTable.getItems().clear();
+                lcdTitle.setText("iTunes Store");
+                lcdArtist.setText("Search failed");
+            }));
+    }
+
+    /**
+     * Imports a store result into the database and adds it to the library.
+     * The import runs on a background thread; the library is updated on the
+     * JavaFX thread afterwards.
+     *
+     * @param result store result to import
+     * @param onDone callback invoked on the JavaFX thread once the import has finished
+     */
+    private void importStoreSong(ItunesDTO result, Runnable onDone) {
+        new Thread(() -> {
+            try {
+                bulkWriter.write(List.of(result));
+                // Added by id, so the library is not loaded
+                boolean added = pri.addSongs(1L, List.of(result.trackId())) > 0;
+                javafx.application.Platform.runLater(() -> {
+                    if (added) {
+                        reloadIfSelected(1L);
+                        lcdTitle.setText(result.trackName());
+                        lcdArtist.setText("Added to Library");
+                    }
+                    onDone.run();
+                    refresh();
+                });
+            } catch (Exception ex) {
+                logger.error("importStoreSong: failed to import {}", result.trackId(), ex);
+                javafx.application.Platform.runLater(() -> {
+                    onDone.run();
+                    new Alert(Alert.AlertType.ERROR, "Failed to import song: " + ex.getMessage()).showAndWait();
+                });
+            }
+        }).start();
+    }
+
+    /**
+     * Loads the songs of a playlist on a background thread and shows them
+     * in the song table, unless another playlist has been selected in the
+     * meantime.
+     *
+     * @param playlist the playlist whose songs should be shown
+     */
+    private void loadSongs(PlaylistRow playlist) {
+        new Thread(() -> {
+            try {
+                List<SongRow> rows = songRepo.findRowsByPlaylist(playlist.id());
+                javafx.application.Platform.runLater(() -> {
+                    PlaylistRow selected = sourceList.getSelectionModel().getSelectedItem();
+                    if (selected != null && playlist.id().equals(selected.id())) {
+                        playlistSongs.setAll(rows);
+                    }
+                });
+            } catch (Exception e) {
+                logger.error("loadSongs: Failed to load songs of playlist {}", playlist.id(), e);
+            }
+        }).start();
+    }
+
+    /**
+     * Reloads the song table if the given playlist is the selected one.
+     *
+     * @param playlistId the identifier of the changed playlist
+     */
+    private void reloadIfSelected(Long playlistId) {
+        PlaylistRow selected = sourceList.getSelectionModel().getSelectedItem();
+        if (selected != null && selected.id().equals(playlistId)) {
+            loadSongs(selected);
+        }
+    }
+
+    /**
+     * Creates a detached playlist carrying the identifier and name of a
+     * sidebar row, for the repository methods that take a playlist.
+     *
+     * @param row the sidebar row
+     * @return a playlist without songs
+     */
+    private static Playlist toPlaylist(PlaylistRow row) {
+        Playlist playlist = new Playlist(row.name());
+        playlist.setId(row.id());
+        return playlist;
+    }
+
+    /**
+     * Looks up the song entity behind a table row.
+     *
+     * @param row the selected row
+     * @return the matching song
+     * @throws IllegalStateException if the song no longer exists
+     */
+    private Song findSong(SongRow row) {
+        Song song = songRepo.findByIds(List.of(row.id())).get(row.id());
+        if (song == null) {
+            throw new IllegalStateException("Song not found with id: " + row.id());
+        }
+        return song;
+    }
+
+    /**
+     * Looks up the playlists that already contain the song behind a table row.
+     *
+     * @param row the selected row
+     * @return identifiers of the containing playlists, empty if the lookup failed
+     */
+    private Set<Long> playlistsContaining(SongRow row) {
+        try {
+            return pri.playlistsContaining(row.id());
+        } catch (RuntimeException ex) {
+            logger.error("playlistsContaining: failed to look up playlists of song {}", row.id(), ex);
+            return Set.of();
+        }
+    }
+
     /**
      * Filters the songs of the currently selected playlist
      * based on the provided search text.
@@ -443,26 +698,19 @@ public class ItunesPlayList {
      * @param searchText the text used for filtering
      */
     private void filterSongs(String searchText) {
-        Playlist selectedPlaylist = sourceList.getSelectionModel().getSelectedItem();
+        PlaylistRow selectedPlaylist = sourceList.getSelectionModel().getSelectedItem();
         if (selectedPlaylist == null) return;
 
-        ObservableList<Song> masterData = FXCollections.observableArrayList(selectedPlaylist.getSongs());
-
         if (searchText == null || searchText.isEmpty()) {
-            songTable.setItems(masterData);
+            songTable.setItems(playlistSongs);
             return;
         }
 
-        FilteredList<Song> filteredData = new FilteredList<>(masterData, song -> {
+        FilteredList<SongRow> filteredData = new FilteredList<>(playlistSongs, song -> {
             String filter = searchText.toLowerCase();
-            boolean titleMatch = song.getName() != null && song.getName().toLowerCase().contains(filter);
-            boolean artistMatch = song.getAlbum() != null &&
-                song.getAlbum().getArtist() != null &&
-                song.getAlbum().getArtist().getName() != null &&
-                song.getAlbum().getArtist().getName().toLowerCase().contains(filter);
-            boolean albumMatch = song.getAlbum() != null &&
-                song.getAlbum().getName() != null &&
-                song.getAlbum().getName().toLowerCase().contains(filter);
+            boolean titleMatch = song.name() != null && song.name().toLowerCase().contains(filter);
+            boolean artistMatch = song.artistName() != null && song.artistName().toLowerCase().contains(filter);
+            boolean albumMatch = song.albumName() != null && song.albumName().toLowerCase().contains(filter);
             return titleMatch || artistMatch || albumMatch;
         });
 
@@ -481,7 +729,7 @@ public class ItunesPlayList {
         d.showAndWait().ifPresent(name -> {
             if (!name.trim().isEmpty()) {
                 Playlist pl = pri.createPlaylist(name);
-                allPlaylistList.add(pl);
+                allPlaylistList.add(new PlaylistRow(pl.getId(), pl.getName()));
             }
             refresh();
         });
@@ -495,9 +743,9 @@ public class ItunesPlayList {
      * </p>
      */
     private void renameSelectedPlaylist() {
-        Playlist sel = sourceList.getSelectionModel().getSelectedItem();
+        PlaylistRow sel = sourceList.getSelectionModel().getSelectedItem();
 
-        if (sel == null || sel.getId() == null || sel.getId().equals(1L) || sel.getId().equals(2L)) {
+        if (sel == null || sel.id() == null || sel.id().equals(1L) || sel.id().equals(2L)) {
             return;
         }
 
@@ -509,9 +757,8 @@ public class ItunesPlayList {
         d.showAndWait().ifPresent(newName -> {
             if (!newName.trim().isEmpty()) {
                 try {
-                    pri.renamePlaylist(sel, newName);
-                    sel.setName(newName);
-                    sourceList.refresh();
+                    pri.renamePlaylist(toPlaylist(sel), newName);
+                    allPlaylistList.set(allPlaylistList.indexOf(sel), new PlaylistRow(sel.id(), newName));
                 } catch (IllegalStateException ex) {
                     logger.error("renameSelectedPlaylist: failed to rename ", ex);
                     new Alert(Alert.AlertType.ERROR, "Failed to rename: " + ex.getMessage()).showAndWait();
@@ -529,10 +776,10 @@ public class ItunesPlayList {
      * </p>
      */
     private void deleteSelectedPlaylist() {
-        Playlist sel = sourceList.getSelectionModel().getSelectedItem();
-        if (sel != null && sel.getId() != null && !sel.getId().equals(1L) && !sel.getId().equals(2L)) {
+        PlaylistRow sel = sourceList.getSelectionModel().getSelectedItem();
+        if (sel != null && sel.id() != null && !sel.id().equals(1L) && !sel.id().equals(2L)) {
             try {
-                pri.deletePlaylist(sel);
+                pri.deletePlaylist(toPlaylist(sel));
                 allPlaylistList.remove(sel);
                 refresh();
             } catch (Exception ex) {
@@ -550,15 +797,14 @@ public class ItunesPlayList {
      * </p>
      */
     private void removeSelectedSong() {
-        Song sel = songTable.getSelectionModel().getSelectedItem();
-        Playlist list = sourceList.getSelectionModel().getSelectedItem();
+        SongRow sel = songTable.getSelectionModel().getSelectedItem();
+        PlaylistRow list = sourceList.getSelectionModel().getSelectedItem();
 
         // You cannot remove song from Library
-        if (sel != null && list != null && list.getId() != null && !list.getId().equals(1L)) {
+        if (sel != null && list != null && list.id() != null && !list.id().equals(1L)) {
             try {
-                pri.removeSong(list, sel);
-                list.getSongs().remove(sel);
-                songTable.getItems().remove(sel);
+                pri.removeSong(toPlaylist(list), findSong(sel));
+                playlistSongs.remove(sel);
                 refresh();
             } catch (Exception ex) {
                 logger.error("removeSelectedSong: failed to remove", ex);
@@ -574,25 +820,26 @@ public class ItunesPlayList {
      * @param anchor the UI element used as the menu anchor
      */
     private void addSelectedSong(Button anchor) {
-        Song sel = songTable.getSelectionModel().getSelectedItem();
+        SongRow sel = songTable.getSelectionModel().getSelectedItem();
         if (sel == null) return;
 
         ContextMenu menu = new ContextMenu();
-        for (Playlist pl : allPlaylistList) {
-            if (pl.getId() != null && pl.getId().equals(1L))
+        Set<Long> containing = playlistsContaining(sel);
+        for (PlaylistRow pl : allPlaylistList) {
+            if (pl.id() != null && pl.id().equals(1L))
                 continue; // You cannot add song to Library
 
-            MenuItem itm = new MenuItem(pl.getName());
+            CheckMenuItem itm = new CheckMenuItem(pl.name());
+            itm.setSelected(containing.contains(pl.id()));
+            itm.setDisable(itm.isSelected());
             itm.setOnAction(e -> {
-                if (!pri.isSongInPlaylist(pl, sel)) {
-                    try {
-                        pri.addSong(pl, sel);
-                        pl.getSongs().add(sel);
+                try {
+                    if (pri.addSongs(pl.id(), List.of(sel.id())) > 0) {
                         refresh();
-                    } catch (IllegalStateException ex) {
-                        logger.error("addSelectedSong: failed to add song", ex);
-                        new Alert(Alert.AlertType.ERROR, "Could not add song: " + ex.getMessage()).showAndWait();
                     }
+                } catch (IllegalArgumentException ex) {
+                    logger.error("addSelectedSong: failed to add song", ex);
+                    new Alert(Alert.AlertType.ERROR, "Could not add song: " + ex.getMessage()).showAndWait();
                 }
             });
             menu.getItems().add(itm);
@@ -0,0 +1,297 @@
+package org.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Persistent on-disk cache for iTunes Search API responses.
+ *
+ * <p>Each entry consists of the decoded response body and a small metadata
+ * file holding the validators ({@code ETag}, {@code Last-Modified}) and the
+ * time the response was last confirmed by the server. Files are named by
+ * the SHA-256 hash of the cache key.</p>
+ *
+ * <p>Entries younger than the configured time-to-live are served without
+ * contacting the server. Older entries are revalidated with a conditional
+ * request when validators are available, and are still served when the
+ * network is unreachable. The total body size is bounded; when it is
+ * exceeded, the least recently used entries are evicted.</p>
+ *
+ * <p>Bodies are read into memory while the cache lock is held, so an entry
+ * handed out stays usable even if a concurrent store evicts its files. The
+ * size and recency of every entry are indexed in memory when the cache is
+ * created, so storing does not have to scan the directory.</p>
+ */
+public class ItunesResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ItunesResponseCache.class);
+
+    /** Default time after which an entry must be revalidated. */
+    public static final Duration DEFAULT_TTL = Duration.ofDays(7);
+
+    /** Default upper bound for the total size of cached bodies. */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final String BODY_SUFFIX = ".json";
+    private static final String META_SUFFIX = ".properties";
+
+    private final Path directory;
+    private final Duration ttl;
+    private final long maxBytes;
+    private final LinkedHashMap<Path, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * A cached response.
+     *
+     * @param body         decoded response body
+     * @param etag         {@code ETag} validator, or {@code null} if absent
+     * @param lastModified {@code Last-Modified} validator, or {@code null} if absent
+     * @param fetchedAt    time the response was last received or revalidated
+     */
+    public record Entry(byte[] body, String etag, String lastModified, Instant fetchedAt) {
+    }
+
+    /**
+     * Creates a cache with the default time-to-live and size limit.
+     *
+     * @param directory directory holding the cache files, created if missing
+     */
+    public ItunesResponseCache(Path directory) {
+        this(directory, DEFAULT_TTL, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param directory directory holding the cache files, created if missing
+     * @param ttl       time after which an entry must be revalidated
+     * @param maxBytes  upper bound for the total size of cached bodies
+     * @throws IllegalArgumentException if {@code ttl} is negative or {@code maxBytes} is not positive
+     * @throws UncheckedIOException     if the directory cannot be created or read
+     */
+    public ItunesResponseCache(Path directory, Duration ttl, long maxBytes) {
+        if (ttl == null || ttl.isNegative() || maxBytes <= 0) {
+            logger.error("ItunesResponseCache: invalid ttl {} or maxBytes {}", ttl, maxBytes);
+            throw new IllegalArgumentException("ttl must be non-negative and maxBytes positive");
+        }
+        this.directory = directory;
+        this.ttl = ttl;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+            index();
+        } catch (IOException e) {
+            logger.error("ItunesResponseCache: could not open cache directory {}", directory, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Indexes the bodies already on disk from least to most recently used.
+     */
+    private void index() throws IOException {
+        List<Path> bodies;
+        try (Stream<Path> files = Files.list(directory)) {
+            bodies = files.filter(f -> f.toString().endsWith(BODY_SUFFIX))
+                .sorted(Comparator.comparing(this::lastAccess))
+                .toList();
+        }
+        for (Path body : bodies) {
+            long size = Files.size(body);
+            sizes.put(body, size);
+            totalBytes += size;
+        }
+    }
+
+    /**
+     * Looks up a cached response and marks it as recently used.
+     *
+     * @param key cache key
+     * @return the cached entry, or empty if none exists or it cannot be read
+     */
+    public synchronized Optional<Entry> lookup(String key) {
+        Path body = bodyPath(key);
+        Path meta = metaPath(key);
+        if (!Files.exists(body) || !Files.exists(meta)) {
+            return Optional.empty();
+        }
+        try {
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(meta)) {
+                props.load(in);
+            }
+            byte[] bytes = Files.readAllBytes(body);
+            Files.setLastModifiedTime(meta, FileTime.from(Instant.now()));
+            if (sizes.get(body) == null) {
+                sizes.put(body, (long) bytes.length);
+                totalBytes += bytes.length;
+            }
+            return Optional.of(new Entry(bytes,
+                props.getProperty("etag"),
+                props.getProperty("lastModified"),
+                Instant.ofEpochMilli(Long.parseLong(props.getProperty("fetchedAt", "0")))));
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("lookup: unreadable cache entry for {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks whether an entry is young enough to be served without revalidation.
+     *
+     * @param entry cached entry
+     * @return {@code true} if the entry has not exceeded the time-to-live
+     */
+    public boolean isFresh(Entry entry) {
+        return entry.fetchedAt().plus(ttl).isAfter(Instant.now());
+    }
+
+    /**
+     * Stores a response body and its validators, then evicts least recently
+     * used entries until the size limit is respected.
+     *
+     * @param key          cache key
+     * @param body         decoded response body, fully consumed by this method
+     * @param etag         {@code ETag} validator, or {@code null}
+     * @param lastModified {@code Last-Modified} validator, or {@code null}
+     * @return the stored entry
+     * @throws IOException if the body cannot be read or written
+     */
+    public Entry store(String key, InputStream body, String etag, String lastModified) throws IOException {
+        // Read and write outside the lock so concurrent downloads do not serialize on disk I/O
+        byte[] bytes = body.readAllBytes();
+        Path tmp = Files.createTempFile(directory, "body", ".tmp");
+        try {
+            Files.write(tmp, bytes);
+            synchronized (this) {
+                Path target = bodyPath(key);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Entry entry = writeMeta(key, bytes, etag, lastModified);
+                Long previous = sizes.put(target, (long) bytes.length);
+                totalBytes += bytes.length - (previous == null ? 0 : previous);
+                evict(target);
+                return entry;
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Records that the server confirmed a cached entry as still valid.
+     *
+     * @param key   cache key
+     * @param entry entry that was revalidated
+     * @return the entry with an updated fetch time
+     * @throws IOException if the metadata cannot be written
+     */
+    public synchronized Entry revalidated(String key, Entry entry) throws IOException {
+        return writeMeta(key, entry.body(), entry.etag(), entry.lastModified());
+    }
+
+    /**
+     * Writes the metadata file of an entry with the current time as fetch time.
+     */
+    private Entry writeMeta(String key, byte[] body, String etag, String lastModified) throws IOException {
+        Instant now = Instant.now();
+        Properties props = new Properties();
+        props.setProperty("key", key);
+        props.setProperty("fetchedAt", Long.toString(now.toEpochMilli()));
+        if (etag != null) {
+            props.setProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            props.setProperty("lastModified", lastModified);
+        }
+
+        Path tmp = Files.createTempFile(directory, "meta", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, metaPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return new Entry(body, etag, lastModified, now);
+    }
+
+    /**
+     * Deletes least recently used entries until the total body size is
+     * within the limit. The body {@code kept} is never evicted.
+     */
+    private void evict(Path kept) throws IOException {
+        Iterator<Map.Entry<Path, Long>> eldest = sizes.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Path, Long> evicted = eldest.next();
+            Path body = evicted.getKey();
+            if (body.equals(kept)) {
+                continue;
+            }
+            Files.deleteIfExists(body);
+            Files.deleteIfExists(siblingMeta(body));
+            totalBytes -= evicted.getValue();
+            eldest.remove();
+            logger.debug("evict: removed {}", body.getFileName());
+        }
+    }
+
+    /**
+     * Returns the last access time of an entry, tracked on its metadata file.
+     */
+    private FileTime lastAccess(Path body) {
+        try {
+            return Files.getLastModifiedTime(siblingMeta(body));
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private Path siblingMeta(Path body) {
+        String name = body.getFileName().toString();
+        return body.resolveSibling(name.substring(0, name.length() - BODY_SUFFIX.length()) + META_SUFFIX);
+    }
+
+    private Path bodyPath(String key) {
+        return directory.resolve(fileName(key) + BODY_SUFFIX);
+    }
+
+    private Path metaPath(String key) {
+        return directory.resolve(fileName(key) + META_SUFFIX);
+    }
+
+    /**
+     * Derives a file-system safe name from a cache key.
+     */
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
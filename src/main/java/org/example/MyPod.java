@@ -11,7 +11,6 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.util.Duration;
 import javafx.scene.Scene;
@@ -27,22 +26,28 @@ import javafx.scene.control.ProgressBar;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
-import org.example.entity.Album;
-import org.example.entity.Artist;
-import org.example.entity.DBObject;
-import org.example.entity.Playlist;
-import org.example.entity.Song;
+import org.example.cover.CoverImageCache;
+import org.example.cover.CoverStore;
+import org.example.cover.FileCoverStore;
 import org.example.repo.SongRepository;
+import org.example.repo.SongRow;
 import org.example.repo.AlbumRepository;
+import org.example.repo.AlbumRow;
 import org.example.repo.ArtistRepository;
+import org.example.repo.ArtistRow;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.CoverBlobMigration;
+import org.example.repo.IngestCheckpointRepositoryImpl;
 import org.example.repo.PlaylistRepository;
 import org.example.repo.PlaylistRepositoryImpl;
+import org.example.repo.PlaylistRow;
 import org.example.repo.ArtistRepositoryImpl;
 import org.example.repo.AlbumRepositoryImpl;
 import org.example.repo.SongRepositoryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -59,8 +64,9 @@ import java.util.List;
  */
 public class MyPod extends Application {
     private static final Logger logger = LoggerFactory.getLogger(MyPod.class);
+    private static final int NOW_PLAYING_COVER_SIZE = 70; // Edge length in pixels of the "Now Playing" album art
     private String currentScreenName = "";
-    private Playlist currentActivePlaylist = null;
+    private PlaylistRow currentActivePlaylist = null;
 
     // -------------------------------------------------------------------------
     // Data layer
@@ -74,18 +80,63 @@ public class MyPod extends Application {
     private final AlbumRepository albumRepo = new AlbumRepositoryImpl(PersistenceManager.getEntityManagerFactory());
     private final PlaylistRepository playlistRepo = new PlaylistRepositoryImpl(PersistenceManager.getEntityManagerFactory());
 
+    /**
+     * Writer used to bulk-insert catalog data during initialization.
+     */
+    private final BulkCatalogWriter bulkWriter = new BulkCatalogWriter(PersistenceManager.getEntityManagerFactory());
+
+    /**
+     * Content-addressed store holding album covers outside the database.
+     */
+    private final CoverStore coverStore = new FileCoverStore(
+        Path.of(System.getProperty("user.home"), ".mypod", "covers"));
+
+    /**
+     * Background stage attaching album artwork once the catalog is loaded.
+     */
+    private final AlbumCoverPipeline coverPipeline = new AlbumCoverPipeline(albumRepo, coverStore);
+
+    /**
+     * Decoded covers shared by all views; decoding happens off the FX thread.
+     */
+    private final CoverImageCache coverImages = new CoverImageCache(coverStore);
+
     /**
      * Client used to fetch preview data from the iTunes API.
+     * Responses are cached on disk so re-seeding does not hit the network.
+     */
+    private final ItunesApiClient apiClient = new ItunesApiClient(
+        new ItunesResponseCache(Path.of(System.getProperty("user.home"), ".mypod", "itunes-cache")));
+
+    /**
+     * Search terms the catalog is seeded from; {@code ~/.mypod/seeds.txt} replaces the bundled list.
      */
-    private final ItunesApiClient apiClient = new ItunesApiClient();
+    private final List<String> seeds = SeedList.loadOrDefault(
+        Path.of(System.getProperty("user.home"), ".mypod", "seeds.txt"));
 
     /**
-     * Cached data loaded from the database.
+     * Background job applying remote catalog changes after the first start.
+     * It has its own cache, which revalidates every response, so that the
+     * long-lived entries of {@link #apiClient} cannot hide remote changes.
      */
-    private List<Song> songs;
-    private List<Artist> artists;
-    private List<Album> albums;
-    private List<Playlist> playlists;
+    private final CatalogSync catalogSync = new CatalogSync(
+        new ItunesApiClient(new ItunesResponseCache(Path.of(System.getProperty("user.home"), ".mypod", "itunes-sync-cache"),
+            java.time.Duration.ZERO, ItunesResponseCache.DEFAULT_MAX_BYTES)),
+        bulkWriter, seeds, CatalogSync.DEFAULT_INTERVAL);
+
+    /**
+     * Search-as-you-type against the iTunes Store, used by the myTunes window.
+     */
+    private final StoreSearch storeSearch = new StoreSearch(apiClient);
+
+    /**
+     * Cached data loaded from the database. Songs, artists and albums are
+     * kept as projections holding only the columns shown in the lists.
+     */
+    private List<SongRow> songs;
+    private List<ArtistRow> artists;
+    private List<AlbumRow> albums;
+    private List<PlaylistRow> playlists;
 
     // -------------------------------------------------------------------------
     // Menu data
@@ -120,6 +171,9 @@ public class MyPod extends Application {
     private ProgressBar volumeBar;          // Overlay progress bar used to display volume changes
     private PauseTransition volumeHideTimer;// Timer controlling how long the volume overlay is visible
 
+    private ImageView nowPlayingArtView;    // Album art of the "Now Playing" screen, replaced when the cover arrives
+    private Long nowPlayingAlbumId;         // Album shown on the "Now Playing" screen
+
     // -------------------------------------------------------------------------
     // Application lifecycle
     // -------------------------------------------------------------------------
@@ -154,6 +208,14 @@ public class MyPod extends Application {
 
         initTask.setOnSucceeded(e -> {
             if (isMainMenu) showMainMenu();
+            // Covers are fetched after the catalog is usable; the default image is shown until then
+            coverPipeline.start(this::onCoverAttached);
+            // Synced albums may have new artwork; the loaded lists pick up other changes on the next start
+            catalogSync.start(result -> {
+                if (result.changed()) {
+                    coverPipeline.start(this::onCoverAttached);
+                }
+            });
         });
 
         initTask.setOnFailed(e -> {
@@ -441,23 +503,23 @@ public class MyPod extends Application {
         switch (screenName) {
             case "Songs" -> {
                 if (songs != null && !songs.isEmpty()) {
-                    songs.forEach(this::addMenuItem);
+                    songs.forEach(song -> addMenuItem(song.name(), song));
                 } else addMenuItem("No songs found");
             }
             case "Artists" -> {
                 if (artists != null && !artists.isEmpty()) {
-                    artists.forEach(this::addMenuItem);
+                    artists.forEach(artist -> addMenuItem(artist.name(), artist));
                 } else addMenuItem("No artists found");
             }
             case "Albums" -> {
                 if (albums != null && !albums.isEmpty()) {
-                    albums.forEach(this::addMenuItem);
+                    albums.forEach(album -> addMenuItem(album.name(), album));
                 } else addMenuItem("No albums found");
             }
             case "Playlists" -> {
                 addMenuItem("Edit Playlists");
                 if (playlists != null && !playlists.isEmpty()) {
-                    playlists.forEach(this::addMenuItem);
+                    playlists.forEach(playlist -> addMenuItem(playlist.name(), playlist));
                 } else addMenuItem("No playlists found");
             }
         }
@@ -484,15 +546,14 @@ public class MyPod extends Application {
     }
 
     /**
-     * Adds a menu entry that represents a domain object.
-     * <p>
-     * The object's name is displayed and the object itself is stored
-     * for later selection handling.
+     * Adds a menu entry that represents a domain object or one of its
+     * list projections.
      *
-     * @param object the domain object associated with this menu entry
+     * @param text   the text to display in the menu
+     * @param object the object associated with this menu entry
      */
-    private void addMenuItem(DBObject object) {
-        ObjectLabel objectLabel = new ObjectLabel(new Label(object.getName()), object);
+    private void addMenuItem(String text, Object object) {
+        ObjectLabel objectLabel = new ObjectLabel(new Label(text), object);
         objectLabel.label().getStyleClass().add("menu-item");
         objectLabel.label().setMaxWidth(Double.MAX_VALUE);
 
@@ -545,11 +606,7 @@ public class MyPod extends Application {
             if (selection.object() == null) {
                 return;
             }
-            Playlist selectedPlaylist = playlists.stream()
-                .filter(p -> p.getId()
-                    .equals(selection.object().getId()))
-                .findFirst().orElse(null);
-            if (selectedPlaylist != null) {
+            if (selection.object() instanceof PlaylistRow selectedPlaylist) {
                 openPlaylist(selectedPlaylist);
             }
         } else {
@@ -565,29 +622,23 @@ public class MyPod extends Application {
      *
      * @param p the playlist to open
      */
-    private void openPlaylist(Playlist p) {
-        Playlist updatedPlaylist = playlistRepo.findById(p.getId());
-
-        if (updatedPlaylist == null) {
-            showScreen("Playlists");
-            return;
-        }
+    private void openPlaylist(PlaylistRow p) {
+        List<SongRow> playlistSongs = songRepo.findRowsByPlaylist(p.id());
 
         screenContent.getChildren().clear();
         menuLabels.clear();
         selectedIndex = 0;
 
         currentScreenName = "PlaylistSongs";
-        currentActivePlaylist = updatedPlaylist;
+        currentActivePlaylist = p;
 
-        Label title = new Label(updatedPlaylist.getName());
+        Label title = new Label(p.name());
         title.getStyleClass().add("screen-title");
         screenContent.getChildren().add(title);
 
-        if (updatedPlaylist.getSongs() != null && !updatedPlaylist.getSongs().isEmpty()) {
-            List<Song> playlistSongs = new ArrayList<>(updatedPlaylist.getSongs());
-            for (Song s : playlistSongs) {
-                addMenuItem(s);
+        if (!playlistSongs.isEmpty()) {
+            for (SongRow s : playlistSongs) {
+                addMenuItem(s.name(), s);
             }
         } else {
             addMenuItem("No songs found");
@@ -606,19 +657,19 @@ public class MyPod extends Application {
             this.playlists = new ArrayList<>();
         }
 
-        ItunesPlayList itunesPlayList = new ItunesPlayList(playlistRepo);
+        ItunesPlayList itunesPlayList = new ItunesPlayList(playlistRepo, songRepo, bulkWriter, storeSearch);
 
         itunesPlayList.setOnUpdate(() -> {
             new Thread(() -> {
                 try {
-                    List<Playlist> updatedPlaylists = playlistRepo.findAll();
+                    List<PlaylistRow> updatedPlaylists = playlistRepo.findRows();
                     Platform.runLater(() -> {
                         this.playlists = updatedPlaylists;
                         if ("Playlists".equals(currentScreenName)) {
                             showScreen("Playlists");
                         } else if ("PlaylistSongs".equals(currentScreenName) && currentActivePlaylist != null) {
                             playlists.stream()
-                                .filter(p -> p.getId().equals(currentActivePlaylist.getId()))
+                                .filter(p -> p.id().equals(currentActivePlaylist.id()))
                                 .findFirst()
                                 .ifPresent(this::openPlaylist);
                         }
@@ -654,11 +705,11 @@ public class MyPod extends Application {
             return;
         }
 
-        Artist artist = (Artist) selection.object();
-        List<Album> artistAlbums = albumRepo.findByArtist(artist);
+        ArtistRow artist = (ArtistRow) selection.object();
+        List<AlbumRow> artistAlbums = albumRepo.findRowsByArtist(artist.id());
 
         if (!artistAlbums.isEmpty()) {
-            artistAlbums.forEach(this::addMenuItem);
+            artistAlbums.forEach(album -> addMenuItem(album.name(), album));
         } else {
             addMenuItem("No albums found");
         }
@@ -687,11 +738,11 @@ public class MyPod extends Application {
             return;
         }
 
-        Album album = (Album) selection.object();
-        List<Song> albumSongs = songRepo.findByAlbum(album);
+        AlbumRow album = (AlbumRow) selection.object();
+        List<SongRow> albumSongs = songRepo.findRowsByAlbum(album.id());
 
         if (!albumSongs.isEmpty()) {
-            albumSongs.forEach(this::addMenuItem);
+            albumSongs.forEach(song -> addMenuItem(song.name(), song));
         } else {
             addMenuItem("No songs found");
         }
@@ -714,23 +765,22 @@ public class MyPod extends Application {
             return;
         }
 
-        Song currentSong = (Song) selection.object();
+        SongRow currentSong = (SongRow) selection.object();
 
         // Header
         Label header = new Label("▶ NOW PLAYING");
         header.getStyleClass().add("now-playing-header");
 
-        // Album art
-        ImageView albumArtView = new ImageView();
-        if (currentSong.getAlbum() != null) {
-            Image cover = currentSong.getAlbum().getCoverImage();
-            if (cover != null) {
-                albumArtView.setImage(cover);
-            }
+        // Album art, the placeholder is replaced once the cover is decoded
+        ImageView albumArtView = new ImageView(CoverImageCache.defaultImage());
+        nowPlayingArtView = albumArtView;
+        nowPlayingAlbumId = currentSong.albumId();
+        if (currentSong.albumId() != null) {
+            showNowPlayingCover(currentSong.albumId(), currentSong.coverHash());
         }
 
-        albumArtView.setFitWidth(70);
-        albumArtView.setFitHeight(70);
+        albumArtView.setFitWidth(NOW_PLAYING_COVER_SIZE);
+        albumArtView.setFitHeight(NOW_PLAYING_COVER_SIZE);
         albumArtView.setPreserveRatio(true);
         albumArtView.setSmooth(true);
         albumArtView.setStyle("""
@@ -740,13 +790,13 @@ public class MyPod extends Application {
             """);
 
         // Song title
-        Label titleLabel = new Label(currentSong.getName());
+        Label titleLabel = new Label(currentSong.name());
         titleLabel.getStyleClass().add("now-playing-title");
         titleLabel.setWrapText(true);
 
         String artistName;
-        if (currentSong.getAlbum() != null && currentSong.getAlbum().getArtist() != null) {
-            artistName = currentSong.getAlbum().getArtist().getName();
+        if (currentSong.artistName() != null) {
+            artistName = currentSong.artistName();
         } else {
             artistName = "Unknown Artist";
         }
@@ -754,8 +804,8 @@ public class MyPod extends Application {
         artistLabel.getStyleClass().add("now-playing-artist");
 
         String albumName;
-        if (currentSong.getAlbum() != null) {
-            albumName = currentSong.getAlbum().getName();
+        if (currentSong.albumName() != null) {
+            albumName = currentSong.albumName();
         } else {
             albumName = "Unknown Album";
         }
@@ -782,7 +832,7 @@ public class MyPod extends Application {
         screenContent.getChildren().add(layout);
 
         // Play preview
-        String previewUrl = currentSong.getPreviewUrl();
+        String previewUrl = currentSong.previewUrl();
         if (previewUrl != null && !previewUrl.isBlank()) {
             playPreview(previewUrl);
         }
@@ -844,6 +894,42 @@ public class MyPod extends Application {
         }
     }
 
+    /**
+     * Decodes an album cover in the background and shows it on the
+     * "Now Playing" screen if that album is still displayed once it is ready.
+     *
+     * @param albumId   id of the album the cover belongs to
+     * @param coverHash content hash of the cover, or {@code null} if the album has none yet
+     */
+    private void showNowPlayingCover(Long albumId, String coverHash) {
+        coverImages.get(coverHash, NOW_PLAYING_COVER_SIZE).thenAccept(image -> Platform.runLater(() -> {
+            if (image != null && nowPlayingArtView != null && albumId.equals(nowPlayingAlbumId)
+                && "NowPlaying".equals(currentScreenName)) {
+                nowPlayingArtView.setImage(image);
+            }
+        }));
+    }
+
+    /**
+     * Applies a downloaded album cover to the cached song rows and, if the
+     * album is currently playing, to the "Now Playing" screen.
+     * <p>
+     * Called from the cover pipeline's background threads.
+     *
+     * @param albumId   id of the album the cover belongs to
+     * @param coverHash content hash of the cover in the cover store
+     */
+    private void onCoverAttached(Long albumId, String coverHash) {
+        Platform.runLater(() -> {
+            if (songs != null) {
+                songs.replaceAll(song -> albumId.equals(song.albumId()) ? song.withCoverHash(coverHash) : song);
+            }
+            if (albumId.equals(nowPlayingAlbumId)) {
+                showNowPlayingCover(albumId, coverHash);
+            }
+        });
+    }
+
     /**
      * Initializes the database and loads all required data into memory.
      * <p>
@@ -851,13 +937,27 @@ public class MyPod extends Application {
      */
     private void initializeData() {
         try {
-            DatabaseInitializer initializer = new DatabaseInitializer(apiClient, songRepo, albumRepo, artistRepo, playlistRepo);
+            new CoverBlobMigration(PersistenceManager.getEntityManagerFactory(), coverStore).migrate();
+        } catch (Exception e) {
+            // Unmigrated albums keep showing the default image
+            logger.error("initializeData: Failed to migrate album covers ", e);
+        }
+
+        try {
+            DatabaseInitializer initializer = new DatabaseInitializer(apiClient, songRepo, albumRepo, artistRepo, playlistRepo,
+                new IngestCheckpointRepositoryImpl(PersistenceManager.getEntityManagerFactory()),
+                bulkWriter, seeds, DatabaseInitializer.DEFAULT_MAX_CONCURRENT_FETCHES);
             initializer.init();
+        } catch (Exception e) {
+            // Partial ingest failures still leave usable data behind
+            logger.error("initializeData: Failed to initialize database ", e);
+        }
 
-            this.songs = songRepo.findAll();
-            this.artists = artistRepo.findAll();
-            this.albums = albumRepo.findAll();
-            this.playlists = playlistRepo.findAll();
+        try {
+            this.songs = new ArrayList<>(songRepo.findRows());
+            this.artists = artistRepo.findRows();
+            this.albums = albumRepo.findRows();
+            this.playlists = playlistRepo.findRows();
         } catch (Exception e) {
             logger.error("initializeData: Failed to load data ", e);
         }
@@ -870,7 +970,7 @@ public class MyPod extends Application {
      */
     private record ObjectLabel(
         Label label,
-        DBObject object) { // Object is null for static menu items like "Edit Playlists"
+        Object object) { // Object is null for static menu items like "Edit Playlists"
 
         /**
          * @return the text displayed by this menu item
@@ -1,7 +1,9 @@
 package org.example;
 
 import jakarta.persistence.EntityManagerFactory;
+import org.example.repo.CatalogCache;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -16,20 +18,34 @@ import java.util.Map;
 public class PersistenceManager {
     private static final EntityManagerFactory emf =
         EntityManagerFactoryProvider.create(
-            "jdbc:mysql://localhost:3306/myPodDB",
+            "jdbc:mysql://localhost:3306/myPodDB?rewriteBatchedStatements=true",
             "user",
             "pass",
-            Map.of(
-                "hibernate.hbm2ddl.auto", "update",
-                "hibernate.show_sql", "true",
-                "hibernate.format_sql", "true"
-            )
+            properties()
         );
 
     static {
         Runtime.getRuntime().addShutdownHook(new Thread(emf::close));
     }
 
+    /**
+     * Builds the Hibernate properties of the application database, including
+     * the second-level and query cache configuration of {@link CatalogCache}.
+     *
+     * @return Hibernate configuration properties
+     */
+    private static Map<String, String> properties() {
+        Map<String, String> properties = new HashMap<>(Map.of(
+            "hibernate.hbm2ddl.auto", "update",
+            "hibernate.show_sql", "true",
+            "hibernate.format_sql", "true",
+            "hibernate.jdbc.batch_size", "50",
+            "hibernate.order_inserts", "true"
+        ));
+        properties.putAll(CatalogCache.PROPERTIES);
+        return properties;
+    }
+
     /**
      * Returns the shared {@link EntityManagerFactory} instance.
      *
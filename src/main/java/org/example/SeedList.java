@@ -0,0 +1,92 @@
+package org.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads the search terms the catalog is seeded from.
+ *
+ * <p>Seed files are plain text with one search term per line. Surrounding
+ * whitespace is trimmed; blank lines and lines starting with {@code #} are
+ * ignored, as are repeated terms. The bundled {@value #DEFAULT_RESOURCE}
+ * is used unless a seed file is supplied.</p>
+ */
+public final class SeedList {
+    private static final Logger logger = LoggerFactory.getLogger(SeedList.class);
+
+    /** Classpath resource holding the bundled seed list. */
+    public static final String DEFAULT_RESOURCE = "/seeds.txt";
+
+    private SeedList() {
+    }
+
+    /**
+     * Loads the bundled seed list.
+     *
+     * @return search terms in file order
+     * @throws UncheckedIOException if the resource is missing or cannot be read
+     */
+    public static List<String> defaults() {
+        try (InputStream in = SeedList.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + DEFAULT_RESOURCE);
+            }
+            return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            logger.error("defaults: could not read {}", DEFAULT_RESOURCE, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads a seed file, falling back to the bundled list if it does not exist.
+     *
+     * @param file seed file to read
+     * @return search terms in file order
+     * @throws UncheckedIOException if the file exists but cannot be read
+     */
+    public static List<String> loadOrDefault(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return defaults();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> terms = parse(reader);
+            logger.info("loadOrDefault: loaded {} search terms from {}", terms.size(), file);
+            return terms;
+        } catch (IOException e) {
+            logger.error("loadOrDefault: could not read {}", file, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses seed lines.
+     *
+     * @param reader source of seed lines
+     * @return distinct search terms in input order
+     * @throws IOException if reading fails
+     */
+    static List<String> parse(BufferedReader reader) throws IOException {
+        Set<String> terms = new LinkedHashSet<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String term = line.strip();
+            if (!term.isEmpty() && !term.startsWith("#")) {
+                terms.add(term);
+            }
+        }
+        return List.copyOf(terms);
+    }
+}
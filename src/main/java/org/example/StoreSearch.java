@@ -0,0 +1,291 @@
+package org.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Search-as-you-type against the iTunes API.
+ *
+ * <p>{@link #search(String, Consumer, Consumer)} is meant to be called on
+ * every keystroke. A query is only sent once the text has not changed for
+ * the debounce delay, so typing a word costs one request instead of one per
+ * character. A newer search supersedes the previous one: its pending
+ * request is cancelled and its results are never delivered.</p>
+ *
+ * <p>Identical queries that are in flight at the same time share a single
+ * API call, see {@link #fetch(String)}. The underlying request is only
+ * interrupted once every caller waiting for it has cancelled.</p>
+ *
+ * <p>Callbacks run on a background thread; UI code has to hand them over
+ * to its own thread.</p>
+ */
+public class StoreSearch implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StoreSearch.class);
+
+    /** Default time the search text has to stay unchanged before a query is sent. */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(300);
+
+    /** Shortest query that is sent to the API; shorter text yields no results. */
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private final ItunesApiClient apiClient;
+    private final Duration debounce;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Requests in flight by normalized query; guarded by itself. */
+    private final Map<String, Request> inFlight = new HashMap<>();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+
+    private ScheduledFuture<?> pending;
+    private CompletableFuture<List<ItunesDTO>> current;
+    private long generation;
+
+    /**
+     * A single API call and the number of callers waiting for it.
+     */
+    private static final class Request {
+        private final String query;
+        private final CompletableFuture<List<ItunesDTO>> result = new CompletableFuture<>();
+        private Future<?> task;
+        private int subscribers;
+
+        private Request(String query) {
+            this.query = query;
+        }
+    }
+
+    /**
+     * Creates a store search with the default debounce delay.
+     *
+     * @param apiClient client used to query the iTunes API
+     */
+    public StoreSearch(ItunesApiClient apiClient) {
+        this(apiClient, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Creates a store search.
+     *
+     * @param apiClient client used to query the iTunes API
+     * @param debounce  time the search text has to stay unchanged before a query is sent
+     * @throws IllegalArgumentException if {@code debounce} is {@code null} or negative
+     */
+    public StoreSearch(ItunesApiClient apiClient, Duration debounce) {
+        if (debounce == null || debounce.isNegative()) {
+            logger.error("StoreSearch: invalid debounce {}", debounce);
+            throw new IllegalArgumentException("debounce cannot be null or negative");
+        }
+        this.apiClient = apiClient;
+        this.debounce = debounce;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("store-search")
+            .daemon(true)
+            .factory());
+    }
+
+    /**
+     * Searches for the given text once it has stayed unchanged for the
+     * debounce delay, superseding any earlier search. Text shorter than
+     * {@value #MIN_QUERY_LENGTH} characters delivers an empty result
+     * immediately on the calling thread.
+     *
+     * @param text      current search text
+     * @param onResults callback receiving the results of this search
+     * @param onError   callback receiving the failure of this search
+     */
+    public synchronized void search(String text, Consumer<List<ItunesDTO>> onResults, Consumer<Throwable> onError) {
+        long searchGeneration = ++generation;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        if (current != null) {
+            current.cancel(false);
+            current = null;
+        }
+
+        String query = normalize(text);
+        if (query.length() < MIN_QUERY_LENGTH) {
+            onResults.accept(List.of());
+            return;
+        }
+        pending = scheduler.schedule(() -> dispatch(searchGeneration, query, onResults, onError),
+            debounce.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends a debounced search unless it has been superseded meanwhile.
+     */
+    private synchronized void dispatch(long searchGeneration, String query,
+                                       Consumer<List<ItunesDTO>> onResults, Consumer<Throwable> onError) {
+        if (searchGeneration != generation) {
+            return;
+        }
+        pending = null;
+        CompletableFuture<List<ItunesDTO>> results = fetch(query);
+        current = results;
+        results.whenComplete((songs, error) -> {
+            if (results.isCancelled()) {
+                return;
+            }
+            if (error != null) {
+                onError.accept(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                onResults.accept(songs);
+            }
+        });
+    }
+
+    /**
+     * Queries the API without debouncing. If the same query is already in
+     * flight, the caller joins it instead of sending another request.
+     *
+     * <p>Cancelling the returned future detaches this caller only; the
+     * request itself is interrupted once no caller is left.</p>
+     *
+     * @param text search text
+     * @return future completed with the matching songs
+     */
+    public CompletableFuture<List<ItunesDTO>> fetch(String text) {
+        String query = normalize(text);
+        Request request;
+        synchronized (inFlight) {
+            request = inFlight.get(query);
+            if (request == null) {
+                Request created = new Request(query);
+                inFlight.put(query, created);
+                created.task = requests.submit(() -> run(created));
+                sent.incrementAndGet();
+                request = created;
+            } else {
+                coalesced.incrementAndGet();
+            }
+            request.subscribers++;
+        }
+
+        Request joined = request;
+        CompletableFuture<List<ItunesDTO>> view = new CompletableFuture<>();
+        joined.result.whenComplete((songs, error) -> {
+            if (error != null) {
+                view.completeExceptionally(error);
+            } else {
+                view.complete(songs);
+            }
+        });
+        view.whenComplete((songs, error) -> {
+            if (view.isCancelled()) {
+                unsubscribe(joined);
+            }
+        });
+        return view;
+    }
+
+    /**
+     * Performs the API call of a request and completes it.
+     */
+    private void run(Request request) {
+        try {
+            List<ItunesDTO> songs = apiClient.searchStore(request.query);
+            finish(request);
+            request.result.complete(songs);
+        } catch (InterruptedException e) {
+            finish(request);
+            request.result.cancel(false);
+        } catch (Exception e) {
+            finish(request);
+            if (Thread.currentThread().isInterrupted()) {
+                request.result.cancel(false);
+            } else {
+                logger.warn("run: store search failed for {}", request.query, e);
+                request.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Removes a completed request so that later queries are sent again.
+     */
+    private void finish(Request request) {
+        synchronized (inFlight) {
+            inFlight.remove(request.query, request);
+        }
+    }
+
+    /**
+     * Detaches a caller and interrupts the request once no caller is left.
+     */
+    private void unsubscribe(Request request) {
+        synchronized (inFlight) {
+            if (--request.subscribers > 0 || !inFlight.remove(request.query, request)) {
+                return;
+            }
+        }
+        cancelled.incrementAndGet();
+        request.task.cancel(true);
+        request.result.cancel(false);
+        logger.debug("unsubscribe: cancelled superseded query {}", request.query);
+    }
+
+    /**
+     * @return number of API calls started so far
+     */
+    public long requestsSent() {
+        return sent.get();
+    }
+
+    /**
+     * @return number of queries that joined a call already in flight
+     */
+    public long requestsCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return number of API calls cancelled because nobody was waiting for them anymore
+     */
+    public long requestsCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Cancels the pending search and interrupts all requests in flight.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        requests.shutdownNow();
+    }
+
+    /**
+     * Normalizes search text so that queries differing only in case or
+     * whitespace are treated as the same query.
+     *
+     * @param text search text, may be {@code null}
+     * @return trimmed, lower-case text with single spaces
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
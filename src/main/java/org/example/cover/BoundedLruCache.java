@@ -0,0 +1,94 @@
+package org.example.cover;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe least-recently-used cache bounded by the total weight of its
+ * values rather than by their number.
+ *
+ * <p>Each value is weighed once when it is added. When the total weight
+ * exceeds the budget, least recently used entries are evicted until it fits
+ * again. The most recently added entry is always kept, even if it alone
+ * exceeds the budget.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedLruCache<K, V> {
+    private static final Logger logger = LoggerFactory.getLogger(BoundedLruCache.class);
+
+    private final long budget;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, Weighted<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private record Weighted<V>(V value, long weight) {
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param budget  maximum total weight of all values
+     * @param weigher computes the weight of a value, e.g. its size in bytes
+     * @throws IllegalArgumentException if {@code budget} is not positive
+     */
+    public BoundedLruCache(long budget, ToLongFunction<V> weigher) {
+        if (budget <= 0) {
+            logger.error("BoundedLruCache: budget must be positive, was {}", budget);
+            throw new IllegalArgumentException("budget must be positive");
+        }
+        this.budget = budget;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns a cached value and marks it as recently used.
+     *
+     * @param key cache key
+     * @return the cached value, or {@code null} if absent
+     */
+    public synchronized V get(K key) {
+        Weighted<V> entry = entries.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Adds or replaces a value, then evicts least recently used entries
+     * until the budget is respected.
+     *
+     * @param key   cache key
+     * @param value value to cache
+     */
+    public synchronized void put(K key, V value) {
+        Weighted<V> entry = new Weighted<>(value, weigher.applyAsLong(value));
+        Weighted<V> previous = entries.put(key, entry);
+        weight += entry.weight() - (previous == null ? 0 : previous.weight());
+
+        Iterator<Map.Entry<K, Weighted<V>>> eldest = entries.entrySet().iterator();
+        while (weight > budget && entries.size() > 1) {
+            Map.Entry<K, Weighted<V>> evicted = eldest.next();
+            weight -= evicted.getValue().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @return the total weight of all cached values
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * @return the number of cached values
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.cover;
+
+import javafx.scene.image.Image;
+import org.example.entity.Album;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared cache of decoded album covers.
+ *
+ * <p>Covers are read from a {@link CoverStore} and decoded into JavaFX
+ * {@link Image}s at the size they are displayed at. The smallest
+ * rendition that is at least that size is decoded, and generated from the
+ * original the first time it is needed (see
+ * {@link CoverRenditions#forDisplay}); the sized {@link Image} constructor
+ * scales it while decoding. Decoding runs on a small
+ * background pool, so the FX thread never reads or decodes image data;
+ * callers receive a future and show {@link #defaultImage()} until it
+ * completes. Concurrent requests for the same cover share one decode.</p>
+ *
+ * <p>Decoded images are kept in a {@link BoundedLruCache} whose budget is
+ * expressed in decoded pixel bytes (width &times; height &times; 4). Entries
+ * are keyed by cover hash and size, so albums sharing artwork share the
+ * decoded image as well.</p>
+ */
+public class CoverImageCache implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(CoverImageCache.class);
+
+    /** Default budget for decoded images: 16 MB, roughly 800 covers at 70x70. */
+    public static final long DEFAULT_BUDGET_BYTES = 16L * 1024 * 1024;
+
+    /** Default number of background decoding threads. */
+    public static final int DEFAULT_DECODE_THREADS = 2;
+
+    private final CoverStore coverStore;
+    private final BoundedLruCache<Key, Image> images;
+    private final Map<Key, CompletableFuture<Image>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService decoder;
+
+    /**
+     * Identifies a decoded cover.
+     *
+     * @param coverHash content hash of the cover in the store
+     * @param size      edge length in pixels the cover was decoded to
+     */
+    private record Key(String coverHash, int size) {
+    }
+
+    /**
+     * Creates a cache with the default budget and decoding pool.
+     *
+     * @param coverStore store holding the encoded covers
+     */
+    public CoverImageCache(CoverStore coverStore) {
+        this(coverStore, DEFAULT_BUDGET_BYTES, DEFAULT_DECODE_THREADS);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param coverStore    store holding the encoded covers
+     * @param budgetBytes   maximum total size of decoded images in bytes
+     * @param decodeThreads number of background decoding threads
+     * @throws IllegalArgumentException if {@code budgetBytes} or {@code decodeThreads} is not positive
+     */
+    public CoverImageCache(CoverStore coverStore, long budgetBytes, int decodeThreads) {
+        if (budgetBytes <= 0 || decodeThreads < 1) {
+            logger.error("CoverImageCache: invalid budgetBytes {} or decodeThreads {}", budgetBytes, decodeThreads);
+            throw new IllegalArgumentException("budgetBytes and decodeThreads must be positive");
+        }
+        this.coverStore = coverStore;
+        this.images = new BoundedLruCache<>(budgetBytes,
+            image -> (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4);
+        this.decoder = Executors.newFixedThreadPool(decodeThreads, Thread.ofPlatform()
+            .name("cover-decoder-", 0)
+            .daemon(true)
+            .factory());
+    }
+
+    /**
+     * Returns the placeholder shown for albums without a cover.
+     *
+     * @return the shared default cover image
+     */
+    public static Image defaultImage() {
+        return Album.loadDefaultImage();
+    }
+
+    /**
+     * Returns a cover decoded to fit a square of the given size.
+     *
+     * <p>Cached covers are returned as an already completed future. Missing
+     * or undecodable covers complete with {@link #defaultImage()}.</p>
+     *
+     * @param coverHash content hash of the cover, or {@code null} if the album has none
+     * @param size      edge length in pixels to decode the cover to
+     * @return future completed with the decoded cover on a background thread
+     */
+    public CompletableFuture<Image> get(String coverHash, int size) {
+        if (coverHash == null) {
+            return CompletableFuture.completedFuture(defaultImage());
+        }
+        Key key = new Key(coverHash, size);
+        Image cached = images.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<Image> decoding = new CompletableFuture<>();
+        CompletableFuture<Image> existing = inFlight.putIfAbsent(key, decoding);
+        if (existing != null) {
+            return existing;
+        }
+        decoder.execute(() -> {
+            try {
+                Image image = decode(key);
+                inFlight.remove(key, decoding);
+                decoding.complete(image);
+            } catch (RuntimeException e) {
+                inFlight.remove(key, decoding);
+                decoding.completeExceptionally(e);
+            }
+        });
+        return decoding;
+    }
+
+    /**
+     * Reads and decodes a cover, caching the result if decoding succeeds.
+     *
+     * @param key cover to decode
+     * @return the decoded cover, or {@link #defaultImage()} if it is unavailable
+     */
+    private Image decode(Key key) {
+        try {
+            Optional<byte[]> bytes = CoverRenditions.forDisplay(coverStore, key.coverHash(), key.size());
+            if (bytes.isPresent()) {
+                Image image = new Image(new ByteArrayInputStream(bytes.get()), key.size(), key.size(), true, true);
+                if (!image.isError()) {
+                    images.put(key, image);
+                    return image;
+                }
+            }
+            logger.warn("decode: cover {} is missing or not decodable", key.coverHash());
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("decode: could not read cover {}", key.coverHash(), e);
+        }
+        return defaultImage();
+    }
+
+    /**
+     * Stops the decoding threads. Pending decodes are abandoned.
+     */
+    @Override
+    public void close() {
+        decoder.shutdownNow();
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.cover;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Generates the fixed-size cover renditions kept in a {@link CoverStore}.
+ *
+ * <p>Covers are displayed at a handful of sizes only. Storing a pre-scaled
+ * rendition for each of them means displaying a cover decodes an image of
+ * roughly the displayed size, instead of decoding the full artwork and
+ * scaling it down on every use.</p>
+ */
+public final class CoverRenditions {
+    private static final Logger logger = LoggerFactory.getLogger(CoverRenditions.class);
+
+    /** Edge lengths in pixels of the stored renditions, in ascending order. */
+    public static final List<Integer> SIZES = List.of(32, 70, 100);
+
+    private CoverRenditions() {
+    }
+
+    /**
+     * Selects the rendition to decode for a display size.
+     *
+     * @param size edge length in pixels the cover is displayed at
+     * @return the smallest rendition size not smaller than {@code size}, or
+     * empty if the original should be used
+     */
+    public static OptionalInt renditionFor(int size) {
+        return SIZES.stream().mapToInt(Integer::intValue).filter(s -> s >= size).findFirst();
+    }
+
+    /**
+     * Returns the encoded cover to decode for a display size, generating and
+     * storing the matching rendition on first use.
+     *
+     * <p>Covers are stored exactly as downloaded, so a rendition may not exist
+     * yet. In that case the original is decoded once, scaled and stored as the
+     * rendition; later requests read the stored rendition directly. Originals
+     * that already fit the rendition size are returned as they are.</p>
+     *
+     * @param store store holding the cover
+     * @param hash  content hash of the original
+     * @param size  edge length in pixels the cover is displayed at
+     * @return the encoded rendition or original, or empty if the cover is not stored
+     * @throws IOException if the cover cannot be read or the rendition cannot be encoded or written
+     */
+    public static Optional<byte[]> forDisplay(CoverStore store, String hash, int size) throws IOException {
+        OptionalInt renditionSize = renditionFor(size);
+        if (renditionSize.isEmpty()) {
+            return store.read(hash);
+        }
+        Optional<byte[]> rendition = store.readRendition(hash, renditionSize.getAsInt());
+        if (rendition.isPresent()) {
+            return rendition;
+        }
+
+        Optional<byte[]> original = store.read(hash);
+        if (original.isEmpty()) {
+            return original;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(original.get()));
+        if (image == null || Math.max(image.getWidth(), image.getHeight()) <= renditionSize.getAsInt()) {
+            // Unreadable by AWT, or already small enough to be decoded directly
+            return original;
+        }
+        byte[] scaled = encode(scale(image, renditionSize.getAsInt()));
+        store.putRendition(hash, renditionSize.getAsInt(), scaled);
+        return Optional.of(scaled);
+    }
+
+    /**
+     * Generates every rendition that is smaller than the original and stores
+     * it next to the original.
+     *
+     * @param store  store holding the original
+     * @param hash   content hash of the original
+     * @param source encoded original image
+     * @return the number of stored renditions
+     * @throws IOException if a rendition cannot be encoded or written
+     */
+    public static int storeAll(CoverStore store, String hash, byte[] source) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+        if (image == null) {
+            logger.warn("storeAll: cover {} is not a readable image", hash);
+            return 0;
+        }
+
+        int stored = 0;
+        for (int size : SIZES) {
+            // The original is already small enough to be decoded directly
+            if (Math.max(image.getWidth(), image.getHeight()) <= size) {
+                continue;
+            }
+            store.putRendition(hash, size, encode(scale(image, size)));
+            stored++;
+        }
+        return stored;
+    }
+
+    /**
+     * Scales an image to fit a square, preserving its aspect ratio.
+     *
+     * <p>Large reductions are done in successive halving steps before the
+     * final bicubic pass, which avoids the aliasing of a single big step.</p>
+     *
+     * @param source image to scale
+     * @param size   edge length in pixels of the square to fit into
+     * @return the scaled image
+     */
+    static BufferedImage scale(BufferedImage source, int size) {
+        double factor = (double) size / Math.max(source.getWidth(), source.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * factor));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    /**
+     * Encodes a rendition as JPEG.
+     *
+     * @param image the rendition to encode
+     * @return the encoded image
+     * @throws IOException if no JPEG writer is available or encoding fails
+     */
+    static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "jpg", out)) {
+            logger.error("encode: no JPEG writer available");
+            throw new IOException("No JPEG writer available");
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.cover;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage for album cover images.
+ *
+ * <p>Images are identified by the hex encoded SHA-256 hash of their bytes.
+ * Storing the same image twice yields the same hash and keeps a single copy,
+ * so artwork shared by several albums is only stored once. Albums reference
+ * their cover by this hash instead of embedding the image in the database
+ * row.</p>
+ *
+ * <p>Alongside each original, the store can keep pre-scaled renditions at
+ * the fixed sizes in {@link CoverRenditions#SIZES}, addressed by the hash of
+ * the original and the rendition size.</p>
+ */
+public interface CoverStore {
+
+    /**
+     * Stores an image unless an identical one is already present.
+     *
+     * @param image encoded image bytes
+     * @return content hash identifying the image
+     * @throws IOException if the image cannot be written
+     */
+    String put(byte[] image) throws IOException;
+
+    /**
+     * Streams an image into the store unless an identical one is already
+     * present. The bytes are stored exactly as read, without decoding.
+     *
+     * @param image encoded image; read to the end but not closed
+     * @return content hash identifying the image
+     * @throws IOException if reading the stream or writing the image fails
+     */
+    String put(InputStream image) throws IOException;
+
+    /**
+     * Reads a stored image.
+     *
+     * @param hash content hash returned by {@link #put(byte[])}
+     * @return the image bytes, or empty if no image with this hash is stored
+     * @throws IOException if the image exists but cannot be read
+     */
+    Optional<byte[]> read(String hash) throws IOException;
+
+    /**
+     * Checks whether an image is stored.
+     *
+     * @param hash content hash returned by {@link #put(byte[])}
+     * @return {@code true} if an image with this hash is stored
+     */
+    boolean contains(String hash);
+
+    /**
+     * Stores a pre-scaled rendition of a stored image, replacing an existing one.
+     *
+     * @param hash  content hash of the original image
+     * @param size  edge length in pixels of the square the rendition fits into
+     * @param image encoded rendition bytes
+     * @throws IOException if the rendition cannot be written
+     */
+    void putRendition(String hash, int size, byte[] image) throws IOException;
+
+    /**
+     * Reads a pre-scaled rendition of a stored image.
+     *
+     * @param hash content hash of the original image
+     * @param size edge length in pixels of the square the rendition fits into
+     * @return the rendition bytes, or empty if no such rendition is stored
+     * @throws IOException if the rendition exists but cannot be read
+     */
+    Optional<byte[]> readRendition(String hash, int size) throws IOException;
+}
@@ -0,0 +1,248 @@
+package org.example.cover;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CoverStore} keeping each image as a file named by its content hash.
+ *
+ * <p>Files are spread over subdirectories named by the first two hex digits
+ * of the hash to keep directory listings small. New images are written to a
+ * temporary file and atomically moved into place, so readers never observe
+ * partially written covers and concurrent writers of the same image do not
+ * conflict. Renditions are stored next to their original as
+ * {@code <hash>-<size>.img}.</p>
+ *
+ * <p>Covers are small, so reads use a single {@link FileChannel} read into a
+ * heap buffer sized to the file; memory mapping would cost more in setup than
+ * it saves in copying.</p>
+ */
+public class FileCoverStore implements CoverStore {
+    private static final Logger logger = LoggerFactory.getLogger(FileCoverStore.class);
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String SUFFIX = ".img";
+
+    private final Path directory;
+
+    /**
+     * Creates a store rooted at the given directory.
+     *
+     * @param directory directory holding the cover files, created if missing
+     * @throws UncheckedIOException if the directory cannot be created
+     */
+    public FileCoverStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            logger.error("FileCoverStore: could not create cover directory {}", directory, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code image} is {@code null} or empty
+     */
+    @Override
+    public String put(byte[] image) throws IOException {
+        if (image == null || image.length == 0) {
+            logger.error("put: image is null or empty");
+            throw new IllegalArgumentException("image cannot be null or empty");
+        }
+        String hash = hash(image);
+        Path target = path(hash);
+        if (!Files.exists(target)) {
+            write(target, image);
+        }
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The stream is copied to a temporary file while its hash is computed,
+     * then moved into place, so the image is never held in memory as a
+     * whole.</p>
+     *
+     * @throws IllegalArgumentException if {@code image} is {@code null} or empty
+     */
+    @Override
+    public String put(InputStream image) throws IOException {
+        if (image == null) {
+            logger.error("put: image is null");
+            throw new IllegalArgumentException("image cannot be null");
+        }
+        MessageDigest digest = sha256();
+        Path tmp = Files.createTempFile(directory, "cover", ".tmp");
+        try {
+            long size;
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                size = new DigestInputStream(image, digest).transferTo(out);
+            }
+            if (size == 0) {
+                logger.error("put: image is empty");
+                throw new IllegalArgumentException("image cannot be empty");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = path(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Stored concurrently by another writer; the content is identical
+                }
+            }
+            return hash;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code hash} is not a hex encoded SHA-256 hash
+     */
+    @Override
+    public Optional<byte[]> read(String hash) throws IOException {
+        return readFile(path(hash));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code hash} is not a hex encoded SHA-256 hash,
+     *                                  {@code size} is not positive or {@code image} is empty
+     */
+    @Override
+    public void putRendition(String hash, int size, byte[] image) throws IOException {
+        if (image == null || image.length == 0) {
+            logger.error("putRendition: image is null or empty");
+            throw new IllegalArgumentException("image cannot be null or empty");
+        }
+        write(renditionPath(hash, size), image);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code hash} is not a hex encoded SHA-256 hash or {@code size} is not positive
+     */
+    @Override
+    public Optional<byte[]> readRendition(String hash, int size) throws IOException {
+        return readFile(renditionPath(hash, size));
+    }
+
+    /**
+     * Writes a file through a temporary file and an atomic move.
+     */
+    private static void write(Path target, byte[] bytes) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), "cover", ".tmp");
+        try {
+            Files.write(tmp, bytes);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Stored concurrently by another writer; the content is identical
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Reads a whole file with a single {@link FileChannel} read.
+     *
+     * @return the file contents, or empty if the file does not exist
+     */
+    private static Optional<byte[]> readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Cover too large: " + file);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read until the buffer is full or the file ends
+            }
+            return Optional.of(buffer.array());
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code hash} is not a hex encoded SHA-256 hash
+     */
+    @Override
+    public boolean contains(String hash) {
+        return Files.exists(path(hash));
+    }
+
+    /**
+     * Resolves the file of a cover, rejecting anything that is not a hash so
+     * that callers cannot address files outside the store.
+     */
+    private Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            logger.error("path: invalid cover hash {}", hash);
+            throw new IllegalArgumentException("Invalid cover hash: " + hash);
+        }
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + SUFFIX);
+    }
+
+    /**
+     * Resolves the file of a rendition next to its original.
+     */
+    private Path renditionPath(String hash, int size) {
+        if (size < 1) {
+            logger.error("renditionPath: invalid rendition size {}", size);
+            throw new IllegalArgumentException("Invalid rendition size: " + size);
+        }
+        Path original = path(hash);
+        return original.resolveSibling(hash + "-" + size + SUFFIX);
+    }
+
+    /**
+     * Computes the content hash of an image.
+     *
+     * @param image encoded image bytes
+     * @return hex encoded SHA-256 hash
+     */
+    static String hash(byte[] image) {
+        return HexFormat.of().formatHex(sha256().digest(image));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.cover;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Image formats accepted as album covers, recognised by their leading bytes.
+ *
+ * <p>Only formats JavaFX can decode are listed. Sniffing the header is enough
+ * to reject error pages and other non-image responses without decoding the
+ * image.</p>
+ */
+public enum ImageFormat {
+    JPEG(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    GIF(new byte[]{'G', 'I', 'F', '8'}),
+    BMP(new byte[]{'B', 'M'});
+
+    /** Number of leading bytes needed to recognise every format. */
+    private static final int HEADER_LENGTH = 8;
+
+    private final byte[] signature;
+
+    ImageFormat(byte[] signature) {
+        this.signature = signature;
+    }
+
+    /**
+     * Detects the format of a stream without consuming it.
+     *
+     * @param in stream positioned at the start of the image; must support {@link InputStream#mark(int)}
+     * @return the detected format, or empty if the header matches no supported format
+     * @throws IOException              if the header cannot be read
+     * @throws IllegalArgumentException if {@code in} does not support mark/reset
+     */
+    public static Optional<ImageFormat> sniff(InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalArgumentException("stream must support mark/reset");
+        }
+        in.mark(HEADER_LENGTH);
+        byte[] header;
+        try {
+            header = in.readNBytes(HEADER_LENGTH);
+        } finally {
+            in.reset();
+        }
+        return sniff(header);
+    }
+
+    /**
+     * Detects the format of an image from its leading bytes.
+     *
+     * @param header leading bytes of the image
+     * @return the detected format, or empty if the header matches no supported format
+     */
+    public static Optional<ImageFormat> sniff(byte[] header) {
+        for (ImageFormat format : values()) {
+            if (header.length >= format.signature.length
+                && Arrays.equals(header, 0, format.signature.length, format.signature, 0, format.signature.length)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
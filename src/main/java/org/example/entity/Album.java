@@ -2,16 +2,13 @@ package org.example.entity;
 
 import jakarta.persistence.*;
 import org.example.ItunesDTO;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
-import javax.imageio.ImageIO;
-
 import javafx.scene.image.Image;
 
-import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.io.*;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -22,13 +19,19 @@ import java.util.Objects;
  * <p>An {@code Album} is a persistent JPA entity that belongs to an
  * {@link Artist} and contains one or more {@link Song} entities.</p>
  *
- * <p>It also stores optional album artwork as a binary large object (BLOB),
- * which is converted to a JavaFX {@link Image} when displayed in the UI.</p>
+ * <p>Album artwork is not stored in the album row. The album only keeps the
+ * content hash of its cover, which is resolved to image bytes through an
+ * {@link org.example.cover.CoverStore}. Albums are persisted without
+ * artwork; the cover is downloaded later from {@link #getArtworkUrl()} by
+ * {@link org.example.AlbumCoverPipeline}.</p>
  *
  * <p>Album instances are typically created from iTunes API data via
  * {@link #fromDTO(ItunesDTO, Artist)}.</p>
  */
 @Entity
+@Table(indexes = @Index(name = "idx_album_name_id", columnList = "name, album_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Album implements DBObject {
 
     @Id
@@ -44,8 +47,14 @@ public class Album implements DBObject {
 
     private Long trackCount;
 
-    @Lob
-    private byte[] cover;
+    @Column(name = "cover_hash", length = 64)
+    private String coverHash;
+
+    @Column(name = "artwork_url", length = 1024)
+    private String artworkUrl;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
     @ManyToOne
     @JoinColumn(name = "artist_id")
@@ -57,22 +66,23 @@ public class Album implements DBObject {
     protected Album() {
     }
 
-    public Album(Long albumId, String name, String genre, int year, Long trackCount, byte[] cover, Artist artist) {
+    public Album(Long albumId, String name, String genre, int year, Long trackCount, String coverHash, Artist artist) {
         this.id = albumId;
         this.name = name;
         this.genre = genre;
         this.year = year;
         this.trackCount = trackCount;
         this.artist = artist;
-        this.cover = cover;
+        this.coverHash = coverHash;
     }
 
     /**
      * Creates an {@code Album} entity from an iTunes API DTO.
      *
-     * <p>This factory method extracts album-related data and attempts
-     * to download and persist album artwork. If artwork cannot be loaded,
-     * {@code null} is stored and a default image is used by the UI.</p>
+     * <p>This factory method extracts album-related data and records the
+     * artwork URL without downloading it, so creating albums never blocks on
+     * the artwork host. Until the cover has been fetched, the UI shows a
+     * default image.</p>
      *
      * @param dto    source DTO from the iTunes API
      * @param artist associated artist entity
@@ -84,10 +94,13 @@ public class Album implements DBObject {
             throw new IllegalArgumentException("Required fields (albumId, albumName) cannot be null");
         }
 
-        // Try to load album cover from URL. If unavailable, store null and let UI handle fallback image.
-        byte[] cover = generateAlbumCover(dto.artworkUrl100());
-
-        return new Album(dto.collectionId(), dto.collectionName(), dto.primaryGenreName(), dto.releaseYear(), dto.trackCount(), cover, artist);
+        Album album = new Album(dto.collectionId(), dto.collectionName(), dto.primaryGenreName(), dto.releaseYear(), dto.trackCount(), null, artist);
+        if (dto.artworkUrl100() != null) {
+            album.setArtworkUrl(dto.artworkUrl100().toString());
+        }
+        album.setContentHash(ContentHash.of(album.getName(), album.getGenre(), album.getYear(),
+            album.getTrackCount(), album.getArtworkUrl(), artist == null ? null : artist.getId()));
+        return album;
     }
 
     public Long getId() {
@@ -146,106 +159,64 @@ public class Album implements DBObject {
         this.artist = artist;
     }
 
-    public byte[] getCover() {
-        return cover;
+    public String getArtworkUrl() {
+        return artworkUrl;
+    }
+
+    public void setArtworkUrl(String artworkUrl) {
+        this.artworkUrl = artworkUrl;
     }
 
     /**
-     * Returns the album cover as a JavaFX {@link Image}.
-     *
-     * <p>If no cover is stored or if decoding fails, a default placeholder
-     * image bundled with the application is returned.</p>
+     * Returns the hash of the fields taken from the iTunes API, used by
+     * {@link org.example.CatalogSync} to detect changed rows.
      *
-     * @return album cover image or a default image if unavailable
+     * @return hex encoded content hash, or {@code null} for rows stored before hashes were recorded
      */
-    public Image getCoverImage() {
-        byte[] bytes = getCover();
-        if (bytes == null || bytes.length == 0) return loadDefaultImage();
-
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(bytes)) {
-            Image img = new Image(bais);
-            return img.isError() ? loadDefaultImage() : img;
-        } catch (IOException e) {
-            return loadDefaultImage();
-        }
+    public String getContentHash() {
+        return contentHash;
     }
 
-    public void setCover(byte[] cover) {
-        this.cover = cover;
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
     }
 
-    /**
-     * Downloads album artwork from the given URL and converts it to a byte array.
-     *
-     * @param url URL pointing to the album artwork
-     * @return image data as byte array, or {@code null} if loading fails
-     */
-    public static byte[] generateAlbumCover(URL url) {
-        BufferedImage bi = loadUrlImage(url);
-
-        if (bi != null) {
-            return imageToBytes(bi);
-        }
-        return null;
+    public String getCoverHash() {
+        return coverHash;
     }
 
-    /**
-     * Converts a buffered image into a JPEG byte array suitable for BLOB storage.
-     *
-     * @param bi buffered image
-     * @return image encoded as byte array, or {@code null} on failure
-     */
-    public static byte[] imageToBytes(BufferedImage bi) {
-        if (bi == null) return null;
-
-        try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            ImageIO.write(bi, "jpg", stream); //should always be jpg for this application
-            return stream.toByteArray();
-        } catch (IOException e) {
-            System.err.println(e);
-            return null;
-        }
+    public void setCoverHash(String coverHash) {
+        this.coverHash = coverHash;
     }
 
     /**
-     * Loads an image from a remote URL.
+     * Returns the default album artwork bundled with the application.
+     *
+     * <p>The image is loaded once and shared by all callers.</p>
      *
-     * @param url URL pointing to an image resource
-     * @return loaded {@link BufferedImage} or {@code null} if unavailable
+     * @return default {@link Image}, or {@code null} if the resource cannot be loaded
      */
-    public static BufferedImage loadUrlImage(URL url) {
-        if (url == null) return null;
-
-        BufferedImage bi;
-        try {
-            bi = ImageIO.read(url);
-        } catch (IOException e) {
-            return null;
-        }
-
-        if (bi == null) {
-            System.err.println("The URL does not point to a valid image.");
-            return null;
-        }
-
-        return bi;
+    public static Image loadDefaultImage() {
+        return DefaultImageHolder.IMAGE;
     }
 
     /**
-     * Loads the default album artwork bundled with the application.
-     *
-     * @return default {@link Image}, or {@code null} if the resource cannot be loaded
+     * Lazily loads the default artwork on first use.
      */
-    public static Image loadDefaultImage() {
-        try (InputStream is = Album.class.getResourceAsStream("/itunescover.jpg")) {
-            if (is == null) {
-                System.err.println("Could not load default image");
+    private static final class DefaultImageHolder {
+        private static final Image IMAGE = readDefaultImage();
+
+        private static Image readDefaultImage() {
+            try (InputStream is = Album.class.getResourceAsStream("/itunescover.jpg")) {
+                if (is == null) {
+                    System.err.println("Could not load default image");
+                    return null;
+                }
+                return new Image(is);
+
+            } catch (IOException e) {
                 return null;
             }
-            return new Image(is);
-
-        } catch (IOException e) {
-            return null;
         }
     }
 
@@ -2,6 +2,8 @@ package org.example.entity;
 
 import jakarta.persistence.*;
 import org.example.ItunesDTO;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.util.ArrayList;
@@ -18,6 +20,9 @@ import java.util.Objects;
  * <p>Entity identity is based solely on the database identifier.</p>
  */
 @Entity
+@Table(indexes = @Index(name = "idx_artist_name_id", columnList = "name, artist_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Artist implements DBObject {
 
     @Id
@@ -28,6 +33,9 @@ public class Artist implements DBObject {
 
     private String country;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @OneToMany(mappedBy = "artist", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Album> album = new ArrayList<>();
 
@@ -56,7 +64,9 @@ public class Artist implements DBObject {
         if (dto.artistId() == null || dto.artistName() == null) {
             throw new IllegalArgumentException("Required fields (artistId, artistName) cannot be null");
         }
-        return new Artist(dto.artistId(), dto.artistName(), dto.country());
+        Artist artist = new Artist(dto.artistId(), dto.artistName(), dto.country());
+        artist.setContentHash(ContentHash.of(artist.getName(), artist.getCountry()));
+        return artist;
     }
 
     public Long getId() {
@@ -83,6 +93,20 @@ public class Artist implements DBObject {
         this.country = country;
     }
 
+    /**
+     * Returns the hash of the fields taken from the iTunes API, used by
+     * {@link org.example.CatalogSync} to detect changed rows.
+     *
+     * @return hex encoded content hash, or {@code null} for rows stored before hashes were recorded
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public List<Album> getAlbum() {
         return album;
     }
@@ -0,0 +1,48 @@
+package org.example.entity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes the content hash stored with catalog entities.
+ *
+ * <p>The hash covers the fields an entity takes from the iTunes API, so a
+ * sync can tell whether a stored row differs from a freshly fetched result
+ * by comparing a single column.</p>
+ */
+final class ContentHash {
+    /** Separates fields so that adjacent values cannot run into each other. */
+    private static final char SEPARATOR = '\u001F';
+
+    /** Stands in for {@code null}, which must hash differently from an empty string. */
+    private static final char NULL = '\u0000';
+
+    private ContentHash() {
+    }
+
+    /**
+     * Hashes the given field values in order.
+     *
+     * @param fields field values; {@code null} values are allowed
+     * @return hex encoded SHA-256 hash
+     */
+    static String of(Object... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (Object field : fields) {
+            if (field == null) {
+                sb.append(NULL);
+            } else {
+                sb.append(field);
+            }
+            sb.append(SEPARATOR);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
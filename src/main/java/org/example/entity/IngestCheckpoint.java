@@ -0,0 +1,86 @@
+package org.example.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * JPA entity recording the ingest progress of a single search term.
+ *
+ * <p>A checkpoint is written after every persisted page of a term and
+ * marked completed once the term has been paged through. An interrupted
+ * ingest skips completed terms and resumes the others after their last
+ * persisted page.</p>
+ */
+@Entity
+public class IngestCheckpoint {
+
+    @Id
+    @Column(name = "term", length = 255)
+    private String term;
+
+    @Column(name = "pages_done")
+    private int pagesDone;
+
+    @Column(name = "rows_done")
+    private long rowsDone;
+
+    private boolean completed;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    protected IngestCheckpoint() {
+    }
+
+    public IngestCheckpoint(String term) {
+        this.term = term;
+    }
+
+    /**
+     * Records a persisted page.
+     *
+     * @param rows number of results on the page
+     */
+    public void pageDone(int rows) {
+        pagesDone++;
+        rowsDone += rows;
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * Marks the term as fully ingested.
+     */
+    public void complete() {
+        completed = true;
+        updatedAt = Instant.now();
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public int getPagesDone() {
+        return pagesDone;
+    }
+
+    public long getRowsDone() {
+        return rowsDone;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" +
+            "term = " + term + ", " +
+            "pagesDone = " + pagesDone + ", " +
+            "completed = " + completed + ")";
+    }
+}
@@ -1,11 +1,15 @@
 package org.example.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * JPA entity representing a user-defined playlist.
@@ -14,9 +18,21 @@ import java.util.Set;
  * many-to-many relationship. Playlists are mutable and can have songs
  * added or removed dynamically.</p>
  *
+ * <p>Songs are kept in a map keyed by song identifier. {@link Song#hashCode()}
+ * is the same for every song, so a {@code Set<Song>} degrades to a linear
+ * scan per lookup; keying by identifier keeps membership checks, additions
+ * and removals constant-time even for the library, which holds every song.
+ * The identifier of an uninitialized proxy is read without loading it.</p>
+ *
+ * <p>The join table keeps the names Hibernate derived before they were
+ * spelled out, and is indexed on the song column so that the playlists
+ * containing a song can be found without scanning it.</p>
+ *
  * <p>Entity identity is based solely on the generated database identifier.</p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Playlist implements DBObject {
 
     @Id
@@ -25,8 +41,16 @@ public class Playlist implements DBObject {
 
     private String name;
 
+    // PlaylistRepositoryImpl inserts into this join table directly; keep its names in sync
     @ManyToMany(cascade = CascadeType.PERSIST)
-    private final Set<Song> songs = new HashSet<>();
+    @JoinTable(
+        name = "Playlist_Song",
+        joinColumns = @JoinColumn(name = "Playlist_id"),
+        inverseJoinColumns = @JoinColumn(name = "songs_song_id"),
+        indexes = @Index(name = "idx_playlist_song_song", columnList = "songs_song_id, Playlist_id"))
+    @MapKey
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    private final Map<Long, Song> songs = new HashMap<>();
 
     protected Playlist() {
     }
@@ -35,12 +59,32 @@ public class Playlist implements DBObject {
         this.name = name;
     }
 
+    /**
+     * Adds a song to this playlist. Adding a song that is already
+     * contained has no effect.
+     *
+     * @param song the song to add
+     * @throws IllegalArgumentException if the song has no identifier
+     */
     public void addSong(Song song) {
-        this.songs.add(song);
+        if (song.getId() == null) {
+            throw new IllegalArgumentException("Song id cannot be null");
+        }
+        this.songs.putIfAbsent(song.getId(), song);
     }
 
     public void removeSong(Song song) {
-        this.songs.remove(song);
+        this.songs.remove(song.getId());
+    }
+
+    /**
+     * Checks whether a song is part of this playlist.
+     *
+     * @param songId the song identifier
+     * @return {@code true} if the song is contained in this playlist
+     */
+    public boolean containsSong(Long songId) {
+        return this.songs.containsKey(songId);
     }
 
     public Long getId() {
@@ -51,8 +95,11 @@ public class Playlist implements DBObject {
         return name;
     }
 
-    public Set<Song> getSongs() {
-        return songs;
+    /**
+     * @return read-only view of the songs in this playlist
+     */
+    public Collection<Song> getSongs() {
+        return Collections.unmodifiableCollection(songs.values());
     }
 
     public void setId(Long playlistId) {
@@ -2,6 +2,8 @@ package org.example.entity;
 
 import jakarta.persistence.*;
 import org.example.ItunesDTO;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.util.HashSet;
@@ -20,6 +22,9 @@ import java.util.Set;
  * <p>Entity identity is based solely on the song identifier.</p>
  */
 @Entity
+@Table(indexes = @Index(name = "idx_song_title_id", columnList = "title, song_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Song implements DBObject {
 
     @Id
@@ -33,6 +38,9 @@ public class Song implements DBObject {
 
     private String previewUrl;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @ManyToOne
     @JoinColumn(name = "album_id")
     private Album album;
@@ -63,7 +71,10 @@ public class Song implements DBObject {
         if (dto.trackId() == null || dto.trackName() == null) {
             throw new IllegalArgumentException("Required fields (trackId, trackName) cannot be null");
         }
-        return new Song(dto.trackId(), dto.trackName(), dto.trackTimeMillis(), dto.previewUrl(), album);
+        Song song = new Song(dto.trackId(), dto.trackName(), dto.trackTimeMillis(), dto.previewUrl(), album);
+        song.setContentHash(ContentHash.of(song.getName(), song.getLength(), song.getPreviewUrl(),
+            album == null ? null : album.getId()));
+        return song;
     }
 
     /**
@@ -129,6 +140,20 @@ public class Song implements DBObject {
         this.album = album;
     }
 
+    /**
+     * Returns the hash of the fields taken from the iTunes API, used by
+     * {@link org.example.CatalogSync} to detect changed rows.
+     *
+     * @return hex encoded content hash, or {@code null} for rows stored before hashes were recorded
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
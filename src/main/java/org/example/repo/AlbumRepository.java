@@ -3,7 +3,10 @@ package org.example.repo;
 import org.example.entity.Album;
 import org.example.entity.Artist;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Album} entities.
@@ -19,6 +22,10 @@ public interface AlbumRepository {
 
     boolean existsByUniqueId(Album album);
 
+    Set<Long> existingIds(Collection<Long> ids);
+
+    Map<Long, Album> findByIds(Collection<Long> ids);
+
     Long count();
 
     void save(Album album);
@@ -27,4 +34,14 @@ public interface AlbumRepository {
 
     List<Album> findByArtist(Artist artist);
 
+    List<Album> findWithoutCover();
+
+    List<Album> findPage(String afterName, Long afterId, int limit);
+
+    List<AlbumRow> findRows();
+
+    List<AlbumRow> findRowsByArtist(Long artistId);
+
+    void updateCoverHash(Long albumId, String coverHash);
+
 }
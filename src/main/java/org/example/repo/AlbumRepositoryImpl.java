@@ -3,8 +3,14 @@ package org.example.repo;
 import jakarta.persistence.EntityManagerFactory;
 import org.example.entity.Album;
 import org.example.entity.Artist;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * JPA-based implementation of {@link AlbumRepository}.
@@ -16,10 +22,12 @@ import java.util.List;
  *
  * <p>
  * All operations are executed using an {@link EntityManagerFactory}, with
- * transactions managed internally where required.
+ * transactions managed internally where required. Finders run in read-only
+ * sessions that neither snapshot nor flush the loaded albums.
  * </p>
  */
 public class AlbumRepositoryImpl implements AlbumRepository {
+    private static final Logger logger = LoggerFactory.getLogger(AlbumRepositoryImpl.class);
     private final EntityManagerFactory emf;
 
     /**
@@ -39,13 +47,47 @@ public class AlbumRepositoryImpl implements AlbumRepository {
      */
     @Override
     public boolean existsByUniqueId(Album album) {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select count(a) from Album a where a.id = :albumId", Long.class)
                 .setParameter("albumId", album.getId())
                 .getSingleResult() > 0
         );
     }
 
+    /**
+     * Returns the identifiers among {@code ids} that belong to stored albums.
+     *
+     * <p>
+     * Identifiers are queried in chunks, so large collections are resolved
+     * in a handful of round trips instead of one query per identifier.
+     * </p>
+     *
+     * @param ids the identifiers to check
+     * @return the subset of {@code ids} that exist in the database
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    @Override
+    public Set<Long> existingIds(Collection<Long> ids) {
+        return IdLookups.existingIds(emf, Album.class, ids);
+    }
+
+    /**
+     * Retrieves all albums whose identifiers are contained in {@code ids}.
+     *
+     * <p>
+     * Identifiers without a stored album are absent from the returned map.
+     * </p>
+     *
+     * @param ids the identifiers to look up
+     * @return the found albums keyed by identifier
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    @Override
+    public Map<Long, Album> findByIds(Collection<Long> ids) {
+        return IdLookups.findByIds(emf, Album.class,
+            "select a from Album a", "a", Album::getId, ids);
+    }
+
     /**
      * Returns the total number of albums stored in the database.
      *
@@ -53,7 +95,7 @@ public class AlbumRepositoryImpl implements AlbumRepository {
      */
     @Override
     public Long count() {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select count(a) from Album a", Long.class)
                 .getSingleResult());
     }
@@ -75,7 +117,7 @@ public class AlbumRepositoryImpl implements AlbumRepository {
      */
     @Override
     public List<Album> findAll() {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select a from Album a", Album.class)
                 .getResultList());
     }
@@ -88,10 +130,122 @@ public class AlbumRepositoryImpl implements AlbumRepository {
      */
     @Override
     public List<Album> findByArtist(Artist artist) {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select a from Album a where a.artist = :artist", Album.class)
                 .setParameter("artist", artist)
                 .getResultList()
         );
     }
+
+    /**
+     * Retrieves all albums that have an artwork URL but no stored cover yet.
+     *
+     * @return albums whose cover still needs to be downloaded
+     */
+    @Override
+    public List<Album> findWithoutCover() {
+        return ReadOnly.call(emf, em ->
+            em.createQuery("select a from Album a where a.coverHash is null and a.artworkUrl is not null", Album.class)
+                .getResultList()
+        );
+    }
+
+    /**
+     * Attaches a stored cover to an album.
+     *
+     * <p>
+     * The cover hash column is updated directly, without loading the album
+     * into the persistence context.
+     * </p>
+     *
+     * @param albumId   the identifier of the album
+     * @param coverHash content hash of the cover in the cover store
+     * @throws IllegalArgumentException if {@code albumId} or {@code coverHash} is {@code null}, or no album has the given identifier
+     */
+    @Override
+    public void updateCoverHash(Long albumId, String coverHash) {
+        if (albumId == null || coverHash == null) {
+            logger.error("updateCoverHash: albumId or coverHash is null");
+            throw new IllegalArgumentException("albumId and coverHash cannot be null");
+        }
+        int updated = emf.callInTransaction(em ->
+            em.createQuery("update Album a set a.coverHash = :coverHash where a.id = :albumId")
+                .setParameter("coverHash", coverHash)
+                .setParameter("albumId", albumId)
+                .executeUpdate()
+        );
+        if (updated == 0) {
+            logger.error("updateCoverHash: album {} not found", albumId);
+            throw new IllegalArgumentException("Album not found: " + albumId);
+        }
+    }
+
+    /**
+     * Retrieves a page of albums ordered by name, starting after the
+     * given position.
+     *
+     * <p>
+     * Pass the name and identifier of the last album of the previous page to
+     * fetch the next one. Unlike an offset, the position is resolved
+     * through an index, so deep pages cost the same as the first. The
+     * artist association is eagerly fetched.
+     * </p>
+     *
+     * @param afterName name of the last album of the previous page, {@code null} for the first page
+     * @param afterId   identifier of the last album of the previous page, {@code null} for the first page
+     * @param limit     maximum number of albums
+     * @return the next page, empty once all albums have been returned
+     * @throws IllegalArgumentException if {@code limit} is less than 1, or {@code afterName} is given without {@code afterId}
+     */
+    @Override
+    public List<Album> findPage(String afterName, Long afterId, int limit) {
+        Keyset.validate("findPage", afterName, afterId, limit);
+        return ReadOnly.call(emf, em ->
+            Keyset.page(em, Album.class, "select a from Album a left join fetch a.artist", "a", afterName, afterId, limit));
+    }
+
+    /**
+     * Retrieves all albums as {@link AlbumRow} projections ordered by name.
+     *
+     * @return a list of rows for all albums
+     */
+    @Override
+    public List<AlbumRow> findRows() {
+        return ReadOnly.call(emf, em ->
+            em.createQuery(
+                    "select new org.example.repo.AlbumRow(a.id, a.name, art.id, art.name) " +
+                        "from Album a left join a.artist art order by a.name, a.id",
+                    AlbumRow.class)
+                .getResultList());
+    }
+
+    /**
+     * Retrieves the albums of an artist as {@link AlbumRow} projections.
+     *
+     * <p>
+     * Results are kept in the {@value CatalogCache#CATALOG_QUERIES} query
+     * cache region. A cached projection holds the row values themselves, so
+     * serving it never loads an album or artist.
+     * </p>
+     *
+     * @param artistId identifier of the artist
+     * @return a list of rows, or an empty list if {@code artistId} is {@code null}
+     */
+    @Override
+    public List<AlbumRow> findRowsByArtist(Long artistId) {
+        if (artistId == null) {
+            logger.debug("findRowsByArtist: artistId is null");
+            return List.of();
+        }
+
+        return ReadOnly.call(emf, em ->
+            em.createQuery(
+                    "select new org.example.repo.AlbumRow(a.id, a.name, art.id, art.name) " +
+                        "from Album a join a.artist art where art.id = :artistId order by a.name, a.id",
+                    AlbumRow.class)
+                .setParameter("artistId", artistId)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, CatalogCache.CATALOG_QUERIES)
+                .getResultList());
+    }
 }
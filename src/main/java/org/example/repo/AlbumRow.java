@@ -0,0 +1,12 @@
+package org.example.repo;
+
+/**
+ * Read-only projection of an album for list screens.
+ *
+ * @param id         album identifier
+ * @param name       album name
+ * @param artistId   identifier of the artist, or {@code null} if the album has none
+ * @param artistName name of the artist
+ */
+public record AlbumRow(Long id, String name, Long artistId, String artistName) {
+}
@@ -2,7 +2,10 @@ package org.example.repo;
 
 import org.example.entity.Artist;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Artist} entities.
@@ -18,10 +21,18 @@ public interface ArtistRepository {
 
     boolean existsByUniqueId(Artist artist);
 
+    Set<Long> existingIds(Collection<Long> ids);
+
+    Map<Long, Artist> findByIds(Collection<Long> ids);
+
     Long count();
 
     void save(Artist artist);
 
     List<Artist> findAll();
 
+    List<Artist> findPage(String afterName, Long afterId, int limit);
+
+    List<ArtistRow> findRows();
+
 }
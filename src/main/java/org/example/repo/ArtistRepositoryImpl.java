@@ -3,14 +3,18 @@ package org.example.repo;
 import jakarta.persistence.EntityManagerFactory;
 import org.example.entity.Artist;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * JPA-based implementation of {@link ArtistRepository}.
  *
  * <p>
  * Handles persistence and retrieval of {@link Artist} entities, providing
- * basic CRUD operations and simple aggregate queries.
+ * basic CRUD operations and simple aggregate queries. Finders run in
+ * read-only sessions.
  * </p>
  */
 public class ArtistRepositoryImpl implements ArtistRepository {
@@ -33,13 +37,47 @@ public class ArtistRepositoryImpl implements ArtistRepository {
      */
     @Override
     public boolean existsByUniqueId(Artist artist) {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select count(a) from Artist a where a.id = :artistId", Long.class)
                 .setParameter("artistId", artist.getId())
                 .getSingleResult() > 0
         );
     }
 
+    /**
+     * Returns the identifiers among {@code ids} that belong to stored artists.
+     *
+     * <p>
+     * Identifiers are queried in chunks, so large collections are resolved
+     * in a handful of round trips instead of one query per identifier.
+     * </p>
+     *
+     * @param ids the identifiers to check
+     * @return the subset of {@code ids} that exist in the database
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    @Override
+    public Set<Long> existingIds(Collection<Long> ids) {
+        return IdLookups.existingIds(emf, Artist.class, ids);
+    }
+
+    /**
+     * Retrieves all artists whose identifiers are contained in {@code ids}.
+     *
+     * <p>
+     * Identifiers without a stored artist are absent from the returned map.
+     * </p>
+     *
+     * @param ids the identifiers to look up
+     * @return the found artists keyed by identifier
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    @Override
+    public Map<Long, Artist> findByIds(Collection<Long> ids) {
+        return IdLookups.findByIds(emf, Artist.class,
+            "select a from Artist a", "a", Artist::getId, ids);
+    }
+
     /**
      * Returns the total number of artists stored in the database.
      *
@@ -47,7 +85,7 @@ public class ArtistRepositoryImpl implements ArtistRepository {
      */
     @Override
     public Long count() {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select count(a) from Artist a", Long.class)
                 .getSingleResult());
     }
@@ -69,8 +107,44 @@ public class ArtistRepositoryImpl implements ArtistRepository {
      */
     @Override
     public List<Artist> findAll() {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select a from Artist a", Artist.class)
                 .getResultList());
     }
+
+    /**
+     * Retrieves a page of artists ordered by name, starting after the
+     * given position.
+     *
+     * <p>
+     * Pass the name and identifier of the last artist of the previous page to
+     * fetch the next one. Unlike an offset, the position is resolved
+     * through an index, so deep pages cost the same as the first.
+     * </p>
+     *
+     * @param afterName name of the last artist of the previous page, {@code null} for the first page
+     * @param afterId   identifier of the last artist of the previous page, {@code null} for the first page
+     * @param limit     maximum number of artists
+     * @return the next page, empty once all artists have been returned
+     * @throws IllegalArgumentException if {@code limit} is less than 1, or {@code afterName} is given without {@code afterId}
+     */
+    @Override
+    public List<Artist> findPage(String afterName, Long afterId, int limit) {
+        Keyset.validate("findPage", afterName, afterId, limit);
+        return ReadOnly.call(emf, em ->
+            Keyset.page(em, Artist.class, "select a from Artist a", "a", afterName, afterId, limit));
+    }
+
+    /**
+     * Retrieves all artists as {@link ArtistRow} projections ordered by name.
+     *
+     * @return a list of rows for all artists
+     */
+    @Override
+    public List<ArtistRow> findRows() {
+        return ReadOnly.call(emf, em ->
+            em.createQuery("select new org.example.repo.ArtistRow(a.id, a.name) from Artist a order by a.name, a.id",
+                    ArtistRow.class)
+                .getResultList());
+    }
 }
@@ -0,0 +1,10 @@
+package org.example.repo;
+
+/**
+ * Read-only projection of an artist for list screens.
+ *
+ * @param id   artist identifier
+ * @param name artist name
+ */
+public record ArtistRow(Long id, String name) {
+}
@@ -0,0 +1,340 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.ItunesDTO;
+import org.example.entity.Album;
+import org.example.entity.Artist;
+import org.example.entity.Song;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bulk writer for catalog data fetched from the iTunes API.
+ *
+ * <p>
+ * Writes a complete search result in a single transaction through a Hibernate
+ * {@link StatelessSession}. Stateless sessions bypass the persistence context,
+ * so no entity snapshots are kept and inserts are sent to the database in
+ * JDBC batches.
+ * </p>
+ *
+ * <p>
+ * Entities are inserted grouped by type (artists, then albums, then songs) so
+ * that consecutive statements can share a batch and foreign keys are always
+ * satisfied. Entities that already exist are skipped by {@link #write}, or
+ * updated when their content changed by {@link #upsert}.
+ * </p>
+ */
+public class BulkCatalogWriter {
+    private static final Logger logger = LoggerFactory.getLogger(BulkCatalogWriter.class);
+
+    /** Default number of statements sent per JDBC batch. */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    private final EntityManagerFactory emf;
+    private final int batchSize;
+    private final CatalogCache catalogCache;
+
+    /**
+     * Outcome of an {@link #upsert(Collection)}, counted in rows across all entity types.
+     *
+     * @param inserted  rows that did not exist
+     * @param updated   rows whose stored content differed
+     * @param unchanged rows that were left untouched
+     */
+    public record UpsertResult(int inserted, int updated, int unchanged) {
+        /** Result of an upsert that wrote nothing. */
+        public static final UpsertResult EMPTY = new UpsertResult(0, 0, 0);
+
+        /**
+         * @return {@code true} if any row was inserted or updated
+         */
+        public boolean changed() {
+            return inserted > 0 || updated > 0;
+        }
+
+        /**
+         * Adds the counts of another result to this one.
+         *
+         * @param other result to add
+         * @return the combined result
+         */
+        public UpsertResult plus(UpsertResult other) {
+            return new UpsertResult(inserted + other.inserted, updated + other.updated, unchanged + other.unchanged);
+        }
+    }
+
+    /**
+     * Entities of a search result, deduplicated by identifier.
+     */
+    private record Catalog(Map<Long, Artist> artists, Map<Long, Album> albums, Map<Long, Song> songs) {
+    }
+
+    /**
+     * Creates a new {@code BulkCatalogWriter} using the default batch size.
+     *
+     * @param emf the {@link EntityManagerFactory} used to open stateless sessions
+     */
+    public BulkCatalogWriter(EntityManagerFactory emf) {
+        this(emf, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@code BulkCatalogWriter}.
+     *
+     * @param emf       the {@link EntityManagerFactory} used to open stateless sessions
+     * @param batchSize number of statements sent per JDBC batch
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     */
+    public BulkCatalogWriter(EntityManagerFactory emf, int batchSize) {
+        if (batchSize < 1) {
+            logger.error("BulkCatalogWriter: batchSize must be positive, was {}", batchSize);
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.emf = emf;
+        this.batchSize = batchSize;
+        this.catalogCache = new CatalogCache(emf);
+    }
+
+    /**
+     * Persists the artists, albums, and songs contained in the given search results.
+     *
+     * <p>
+     * All rows are written in one transaction. If any insert fails, the whole
+     * transaction is rolled back.
+     * </p>
+     *
+     * @param results search results to persist
+     * @return the number of inserted rows across all entity types
+     * @throws IllegalArgumentException if {@code results} is {@code null} or a DTO lacks required fields
+     */
+    public int write(Collection<ItunesDTO> results) {
+        return write(results, new IngestResolutionCache());
+    }
+
+    /**
+     * Persists the given search results, reusing artists and albums resolved
+     * by earlier writes of the same ingest run.
+     *
+     * <p>
+     * Artists and albums found in {@code cache} are neither rebuilt nor
+     * checked for existence again. Once the transaction commits, the
+     * artists and albums of this result are added to the cache.
+     * </p>
+     *
+     * @param results search results to persist
+     * @param cache   entities resolved earlier in the current ingest run
+     * @return the number of inserted rows across all entity types
+     * @throws IllegalArgumentException if {@code results} or {@code cache} is {@code null} or a DTO lacks required fields
+     */
+    public int write(Collection<ItunesDTO> results, IngestResolutionCache cache) {
+        if (results == null || cache == null) {
+            logger.error("write: results or cache is null");
+            throw new IllegalArgumentException("results and cache cannot be null");
+        }
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        Catalog catalog = collect(results, cache);
+        SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            Transaction tx = session.beginTransaction();
+            try {
+                int inserted = insertMissing(session, "Artist", catalog.artists())
+                    + insertMissing(session, "Album", catalog.albums())
+                    + insertMissing(session, "Song", catalog.songs());
+                tx.commit();
+                catalog.artists().values().forEach(cache::resolved);
+                catalog.albums().values().forEach(cache::resolved);
+                if (inserted > 0) {
+                    catalogCache.evictCatalogQueries();
+                }
+                return inserted;
+            } catch (RuntimeException e) {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                logger.error("write: bulk insert failed", e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Inserts new entities and updates changed ones from the given search results.
+     *
+     * <p>
+     * Each entity is compared with the stored row by its content hash. Only
+     * rows that are missing or whose hash differs are written, so the cost of
+     * a sync is proportional to what changed. Updates never touch playlist
+     * membership, which is owned by {@link org.example.entity.Playlist}. An
+     * album keeps its stored cover unless its artwork URL changed, in which
+     * case the cover is cleared so that it is fetched again.
+     * </p>
+     *
+     * <p>
+     * All rows are written in one transaction. If any write fails, the whole
+     * transaction is rolled back.
+     * </p>
+     *
+     * @param results search results to persist
+     * @return the number of inserted, updated and unchanged rows
+     * @throws IllegalArgumentException if {@code results} is {@code null} or a DTO lacks required fields
+     */
+    public UpsertResult upsert(Collection<ItunesDTO> results) {
+        if (results == null) {
+            logger.error("upsert: results is null");
+            throw new IllegalArgumentException("results cannot be null");
+        }
+        if (results.isEmpty()) {
+            return UpsertResult.EMPTY;
+        }
+
+        Catalog catalog = collect(results, new IngestResolutionCache());
+        SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            Transaction tx = session.beginTransaction();
+            try {
+                UpsertResult result = upsertChanged(session, Artist.class, catalog.artists(), Artist::getContentHash, null)
+                    .plus(upsertChanged(session, Album.class, catalog.albums(), Album::getContentHash, BulkCatalogWriter::keepCover))
+                    .plus(upsertChanged(session, Song.class, catalog.songs(), Song::getContentHash, null));
+                tx.commit();
+                // Stateless writes bypass the second-level cache
+                if (result.updated() > 0) {
+                    catalogCache.evictCatalog();
+                } else if (result.inserted() > 0) {
+                    catalogCache.evictCatalogQueries();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                logger.error("upsert: bulk upsert failed", e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Builds the entities of a search result, reusing those found in {@code cache}.
+     *
+     * @param results search results
+     * @param cache   entities resolved earlier in the current ingest run
+     * @return the entities not found in the cache, deduplicated by identifier
+     */
+    private static Catalog collect(Collection<ItunesDTO> results, IngestResolutionCache cache) {
+        // Deduplicate within the result set, a single album usually spans many rows
+        Map<Long, Artist> artists = new LinkedHashMap<>();
+        Map<Long, Album> albums = new LinkedHashMap<>();
+        Map<Long, Song> songs = new LinkedHashMap<>();
+        for (ItunesDTO dto : results) {
+            Artist cachedArtist = cache.artist(dto.artistId());
+            Artist artist = cachedArtist != null ? cachedArtist
+                : artists.computeIfAbsent(dto.artistId(), id -> Artist.fromDTO(dto));
+            Album cachedAlbum = cache.album(dto.collectionId());
+            Album album = cachedAlbum != null ? cachedAlbum
+                : albums.computeIfAbsent(dto.collectionId(), id -> Album.fromDTO(dto, artist));
+            songs.computeIfAbsent(dto.trackId(), id -> Song.fromDTO(dto, album));
+        }
+        return new Catalog(artists, albums, songs);
+    }
+
+    /**
+     * Inserts entities that do not exist and updates those whose stored
+     * content hash differs.
+     *
+     * @param session      the stateless session to write with
+     * @param type         entity type, whose simple name is used in the hash query
+     * @param entities     candidate entities keyed by identifier
+     * @param contentHash  extracts the content hash of a candidate
+     * @param beforeUpdate adjusts a candidate before it replaces its stored row, or {@code null}
+     * @return the number of inserted, updated and unchanged entities
+     */
+    private <T> UpsertResult upsertChanged(StatelessSession session, Class<T> type, Map<Long, T> entities,
+                                           Function<T, String> contentHash, BiConsumer<StatelessSession, T> beforeUpdate) {
+        Map<Long, String> stored = new HashMap<>();
+        for (List<Long> chunk : IdChunks.split(entities.keySet())) {
+            session.createQuery("select e.id, e.contentHash from " + type.getSimpleName() + " e where e.id in :ids", Object[].class)
+                .setParameterList("ids", chunk)
+                .getResultList()
+                .forEach(row -> stored.put((Long) row[0], (String) row[1]));
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        for (Map.Entry<Long, T> entry : entities.entrySet()) {
+            T entity = entry.getValue();
+            if (!stored.containsKey(entry.getKey())) {
+                session.insert(entity);
+                inserted++;
+            } else if (Objects.equals(stored.get(entry.getKey()), contentHash.apply(entity))) {
+                unchanged++;
+            } else {
+                if (beforeUpdate != null) {
+                    beforeUpdate.accept(session, entity);
+                }
+                session.update(entity);
+                updated++;
+            }
+        }
+        return new UpsertResult(inserted, updated, unchanged);
+    }
+
+    /**
+     * Carries the stored cover over to an updated album whose artwork URL is unchanged.
+     *
+     * @param session the stateless session to read the stored album with
+     * @param album   album about to replace its stored row
+     */
+    private static void keepCover(StatelessSession session, Album album) {
+        Album stored = session.get(Album.class, album.getId());
+        if (stored != null && Objects.equals(stored.getArtworkUrl(), album.getArtworkUrl())) {
+            album.setCoverHash(stored.getCoverHash());
+        }
+    }
+
+    /**
+     * Inserts every entity whose identifier is not yet present in the database.
+     *
+     * @param session    the stateless session to insert with
+     * @param entityName JPQL entity name used for the existence query
+     * @param entities   candidate entities keyed by identifier
+     * @return the number of inserted entities
+     */
+    private int insertMissing(StatelessSession session, String entityName, Map<Long, ?> entities) {
+        Set<Long> existing = new HashSet<>();
+        for (List<Long> chunk : IdChunks.split(entities.keySet())) {
+            existing.addAll(session.createQuery("select e.id from " + entityName + " e where e.id in :ids", Long.class)
+                .setParameterList("ids", chunk)
+                .getResultList());
+        }
+
+        int inserted = 0;
+        for (Map.Entry<Long, ?> entry : entities.entrySet()) {
+            if (!existing.contains(entry.getKey())) {
+                session.insert(entry.getValue());
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.entity.Album;
+import org.example.entity.Artist;
+import org.example.entity.Playlist;
+import org.example.entity.Song;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Second-level and query cache of the catalog and playlist entities.
+ *
+ * <p>
+ * Artists, albums and songs are read-mostly once ingested, so they are
+ * kept in a local JCache-backed second-level cache together with the
+ * results of the row projections used when navigating the catalog. Entity
+ * finders are not query-cached: a cached entity result only holds
+ * identifiers, and every entity no longer in its region would be loaded
+ * with a query of its own. Region sizes and expiry are configured per
+ * region in {@code application.conf}.
+ * </p>
+ *
+ * <p>
+ * Hibernate keeps the regions consistent with changes made through managed
+ * entities. Writes that bypass the persistence context, such as the bulk
+ * inserts and updates of {@link BulkCatalogWriter}, and playlist mutations
+ * evict the affected regions explicitly through this class.
+ * </p>
+ */
+public class CatalogCache {
+
+    /** Query cache region of the catalog finders. */
+    public static final String CATALOG_QUERIES = "catalog-queries";
+
+    /** Cache region of the songs collection of a playlist. */
+    public static final String PLAYLIST_SONGS = Playlist.class.getName() + ".songs";
+
+    /**
+     * Hibernate properties enabling the second-level and query cache and
+     * the statistics behind {@link #stats()}.
+     */
+    public static final Map<String, String> PROPERTIES = Map.of(
+        "hibernate.cache.use_second_level_cache", "true",
+        "hibernate.cache.use_query_cache", "true",
+        "hibernate.cache.region.factory_class", "jcache",
+        "hibernate.javax.cache.provider", "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        // Regions missing from application.conf are created with the default size and logged
+        "hibernate.javax.cache.missing_cache_strategy", "create-warn",
+        "hibernate.generate_statistics", "true"
+    );
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+        Artist.class.getName(), Album.class.getName(), Song.class.getName(), Playlist.class.getName(), PLAYLIST_SONGS);
+
+    private static final List<String> QUERY_REGIONS = List.of(CATALOG_QUERIES);
+
+    /**
+     * Hit statistics of a single cache region.
+     *
+     * @param region name of the region
+     * @param hits   lookups served from the region
+     * @param misses lookups that had to go to the database
+     * @param puts   entries added to the region
+     */
+    public record RegionStats(String region, long hits, long misses, long puts) {
+
+        /**
+         * @return share of lookups served from the region, or {@code 0} if there were none
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private final SessionFactory sessionFactory;
+
+    /**
+     * Creates a new {@code CatalogCache}.
+     *
+     * @param emf the {@link EntityManagerFactory} whose cache is managed
+     */
+    public CatalogCache(EntityManagerFactory emf) {
+        this.sessionFactory = emf.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Evicts a playlist and its songs collection.
+     *
+     * @param playlistId identifier of the changed playlist
+     */
+    public void evictPlaylist(Long playlistId) {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Playlist.class, playlistId);
+        cache.evictCollectionData(PLAYLIST_SONGS, playlistId);
+    }
+
+    /**
+     * Evicts all cached catalog query results, e.g. after new rows were inserted.
+     */
+    public void evictCatalogQueries() {
+        sessionFactory.getCache().evictQueryRegion(CATALOG_QUERIES);
+    }
+
+    /**
+     * Evicts all cached artists, albums and songs, every query result that
+     * may reference them and the playlists holding them, e.g. after
+     * existing rows were updated.
+     */
+    public void evictCatalog() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Artist.class);
+        cache.evictEntityData(Album.class);
+        cache.evictEntityData(Song.class);
+        cache.evictCollectionData(PLAYLIST_SONGS);
+        cache.evictQueryRegion(CATALOG_QUERIES);
+    }
+
+    /**
+     * Returns the hit statistics of every entity, collection and query
+     * region since the factory was created.
+     *
+     * @return statistics per region, empty if the second-level cache is disabled
+     */
+    public List<RegionStats> stats() {
+        List<RegionStats> stats = new ArrayList<>();
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return stats;
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : ENTITY_REGIONS) {
+            stats.add(toStats(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : QUERY_REGIONS) {
+            stats.add(toStats(region, statistics.getQueryRegionStatistics(region)));
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the combined statistics of all regions.
+     *
+     * @return hits, misses and puts summed over all regions
+     */
+    public RegionStats total() {
+        long hits = 0;
+        long misses = 0;
+        long puts = 0;
+        for (RegionStats region : stats()) {
+            hits += region.hits();
+            misses += region.misses();
+            puts += region.puts();
+        }
+        return new RegionStats("total", hits, misses, puts);
+    }
+
+    private static RegionStats toStats(String region, CacheRegionStatistics statistics) {
+        // Regions that have not been accessed yet have no statistics
+        if (statistics == null) {
+            return new RegionStats(region, 0, 0, 0);
+        }
+        return new RegionStats(region, statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount());
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.cover.CoverStore;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Moves album covers from the legacy {@code Album.cover} BLOB column into a
+ * {@link CoverStore}.
+ *
+ * <p>
+ * Earlier versions stored the encoded artwork directly in the album row.
+ * For every album that still has a BLOB, the image is written to the cover
+ * store as it is, the resulting hash is stored in {@code cover_hash} and the
+ * BLOB is cleared. Renditions are not generated here; like for downloaded
+ * covers, {@link org.example.cover.CoverRenditions#forDisplay} creates them
+ * when a cover is first displayed. Albums are processed in
+ * batches, each in its own transaction, so an interrupted migration resumes
+ * where it stopped.
+ * </p>
+ *
+ * <p>
+ * Once every cover has been moved, the legacy column is dropped. Hibernate's
+ * schema update never removes columns, so without this step the old blobs
+ * would keep occupying table space and buffer pool pages even though no
+ * query reads them anymore. The drop is a separate step that first verifies
+ * that no album still holds a cover without a hash; otherwise the column is
+ * kept and the next run migrates the remaining covers.
+ * </p>
+ *
+ * <p>
+ * Databases created after the change have no {@code cover} column; the
+ * migration then does nothing.
+ * </p>
+ */
+public class CoverBlobMigration {
+    private static final Logger logger = LoggerFactory.getLogger(CoverBlobMigration.class);
+
+    /** Default number of albums migrated per transaction. */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final EntityManagerFactory emf;
+    private final CoverStore coverStore;
+    private final int batchSize;
+
+    /**
+     * Creates a new {@code CoverBlobMigration} using the default batch size.
+     *
+     * @param emf        the {@link EntityManagerFactory} of the database to migrate
+     * @param coverStore store receiving the covers
+     */
+    public CoverBlobMigration(EntityManagerFactory emf, CoverStore coverStore) {
+        this(emf, coverStore, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@code CoverBlobMigration}.
+     *
+     * @param emf        the {@link EntityManagerFactory} of the database to migrate
+     * @param coverStore store receiving the covers
+     * @param batchSize  number of albums migrated per transaction
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     */
+    public CoverBlobMigration(EntityManagerFactory emf, CoverStore coverStore, int batchSize) {
+        if (batchSize < 1) {
+            logger.error("CoverBlobMigration: batchSize must be positive, was {}", batchSize);
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.emf = emf;
+        this.coverStore = coverStore;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Migrates all covers still stored in the legacy column and drops the
+     * column afterwards, see {@link #dropLegacyColumn()}.
+     *
+     * @return the number of migrated albums
+     * @throws UncheckedIOException if a cover cannot be written to the store
+     */
+    public int migrate() {
+        if (!emf.callInTransaction(em -> em.unwrap(Session.class).doReturningWork(CoverBlobMigration::hasLegacyColumn))) {
+            return 0;
+        }
+
+        int migrated = 0;
+        int batch;
+        do {
+            batch = emf.callInTransaction(em -> em.unwrap(Session.class).doReturningWork(this::migrateBatch));
+            migrated += batch;
+        } while (batch > 0);
+
+        if (migrated > 0) {
+            logger.info("migrate: moved {} covers to the cover store", migrated);
+        }
+
+        dropLegacyColumn();
+        return migrated;
+    }
+
+    /**
+     * Drops the legacy column if a verification pass finds no album whose
+     * cover is still set without a {@code cover_hash}.
+     *
+     * @return {@code true} if the column was dropped
+     */
+    private boolean dropLegacyColumn() {
+        return emf.callInTransaction(em -> {
+            long unmigrated = ((Number) em.createNativeQuery(
+                    "select count(*) from Album where cover is not null and cover_hash is null")
+                .getSingleResult()).longValue();
+            if (unmigrated > 0) {
+                logger.warn("dropLegacyColumn: {} albums still have an unmigrated cover, keeping legacy cover column", unmigrated);
+                return false;
+            }
+            logger.info("dropLegacyColumn: verified all covers, dropping legacy cover column");
+            em.createNativeQuery("alter table Album drop column cover").executeUpdate();
+            logger.info("dropLegacyColumn: dropped legacy cover column");
+            return true;
+        });
+    }
+
+    /**
+     * Migrates up to {@link #batchSize} albums.
+     *
+     * @param connection connection of the current transaction
+     * @return the number of migrated albums in this batch
+     * @throws SQLException if reading or updating the albums fails
+     */
+    private int migrateBatch(Connection connection) throws SQLException {
+        Map<Long, byte[]> covers = new LinkedHashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+            "select album_id, cover from Album where cover is not null")) {
+            select.setMaxRows(batchSize);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    covers.put(rs.getLong(1), rs.getBytes(2));
+                }
+            }
+        }
+        if (covers.isEmpty()) {
+            return 0;
+        }
+
+        try (PreparedStatement update = connection.prepareStatement(
+            "update Album set cover_hash = ?, cover = null where album_id = ?")) {
+            for (Map.Entry<Long, byte[]> entry : covers.entrySet()) {
+                // Empty blobs are cleared without storing anything
+                String hash = null;
+                if (entry.getValue().length > 0) {
+                    hash = coverStore.put(entry.getValue());
+                }
+                update.setString(1, hash);
+                update.setLong(2, entry.getKey());
+                update.addBatch();
+            }
+            update.executeBatch();
+        } catch (IOException e) {
+            logger.error("migrateBatch: could not store cover", e);
+            throw new UncheckedIOException(e);
+        }
+        return covers.size();
+    }
+
+    /**
+     * Checks whether the album table still has the legacy {@code cover} column.
+     *
+     * <p>The metadata lookup is narrowed to that table and column. Their
+     * names are converted to the case the database stores unquoted
+     * identifiers in, e.g. upper case for H2 and, depending on
+     * {@code lower_case_table_names}, lower or mixed case for MySQL.</p>
+     *
+     * @param connection connection to inspect
+     * @return {@code true} if the column exists
+     * @throws SQLException if the database metadata cannot be read
+     */
+    private static boolean hasLegacyColumn(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String table = "Album";
+        String column = "cover";
+        if (metaData.storesUpperCaseIdentifiers()) {
+            table = table.toUpperCase(Locale.ROOT);
+            column = column.toUpperCase(Locale.ROOT);
+        } else if (metaData.storesLowerCaseIdentifiers()) {
+            table = table.toLowerCase(Locale.ROOT);
+            column = column.toLowerCase(Locale.ROOT);
+        }
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+            return columns.next();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.repo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Splits identifier collections into chunks for {@code IN}-list queries.
+ *
+ * <p>
+ * Databases limit the number of bind parameters per statement, and very long
+ * {@code IN} lists defeat statement caching. Repositories therefore query
+ * large identifier sets in fixed-size chunks.
+ * </p>
+ */
+final class IdChunks {
+
+    /** Maximum number of identifiers bound in a single {@code IN} list. */
+    static final int CHUNK_SIZE = 500;
+
+    private IdChunks() {
+    }
+
+    /**
+     * Splits the given identifiers into chunks of at most {@link #CHUNK_SIZE}
+     * elements. {@code null} values and duplicates are removed.
+     *
+     * @param ids identifiers to split
+     * @return list of chunks, empty if {@code ids} contains no identifiers
+     */
+    static List<List<Long>> split(Collection<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += CHUNK_SIZE) {
+            chunks.add(distinct.subList(i, Math.min(i + CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+}
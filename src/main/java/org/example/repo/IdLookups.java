@@ -0,0 +1,98 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bulk lookups of catalog entities by identifier.
+ *
+ * <p>
+ * Identifiers are queried in {@link IdChunks}, so large collections are
+ * resolved in a handful of round trips instead of one query per
+ * identifier. Lookups run in {@link ReadOnly} sessions.
+ * </p>
+ */
+final class IdLookups {
+    private static final Logger logger = LoggerFactory.getLogger(IdLookups.class);
+
+    private IdLookups() {
+    }
+
+    /**
+     * Returns the identifiers among {@code ids} that belong to stored entities.
+     *
+     * @param emf  the {@link EntityManagerFactory} to query
+     * @param type entity type
+     * @param ids  the identifiers to check
+     * @return the subset of {@code ids} that exist in the database
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    static Set<Long> existingIds(EntityManagerFactory emf, Class<?> type, Collection<Long> ids) {
+        List<List<Long>> chunks = chunks("existingIds", ids);
+        if (chunks.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        String query = "select e.id from " + type.getSimpleName() + " e where e.id in :ids";
+        return ReadOnly.call(emf, em -> {
+            Set<Long> existing = new HashSet<>();
+            for (List<Long> chunk : chunks) {
+                existing.addAll(em.createQuery(query, Long.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+            }
+            return existing;
+        });
+    }
+
+    /**
+     * Retrieves all entities whose identifiers are contained in {@code ids}.
+     * Identifiers without a stored entity are absent from the returned map.
+     *
+     * @param emf    the {@link EntityManagerFactory} to query
+     * @param type   entity type
+     * @param select query selecting the entities under {@code alias}, without {@code where}
+     * @param alias  alias of the entity in {@code select}
+     * @param id     identifier accessor of the entity
+     * @param ids    the identifiers to look up
+     * @param <T>    the entity type
+     * @return the found entities keyed by identifier
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    static <T> Map<Long, T> findByIds(EntityManagerFactory emf, Class<T> type, String select, String alias,
+                                      Function<T, Long> id, Collection<Long> ids) {
+        List<List<Long>> chunks = chunks("findByIds", ids);
+        if (chunks.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        String query = select + " where " + alias + ".id in :ids";
+        return ReadOnly.call(emf, em -> {
+            Map<Long, T> found = new HashMap<>();
+            for (List<Long> chunk : chunks) {
+                em.createQuery(query, type)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(entity -> found.put(id.apply(entity), entity));
+            }
+            return found;
+        });
+    }
+
+    private static List<List<Long>> chunks(String method, Collection<Long> ids) {
+        if (ids == null) {
+            logger.error("{}: ids is null", method);
+            throw new IllegalArgumentException("ids cannot be null");
+        }
+        return IdChunks.split(ids);
+    }
+}
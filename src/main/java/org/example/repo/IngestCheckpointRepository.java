@@ -0,0 +1,22 @@
+package org.example.repo;
+
+import org.example.entity.IngestCheckpoint;
+
+import java.util.Map;
+
+/**
+ * Repository interface for managing {@link IngestCheckpoint} entities.
+ *
+ * <p>This interface defines the contract for recording and reading
+ * per-term ingest progress, independent of the underlying
+ * persistence technology.</p>
+ */
+public interface IngestCheckpointRepository {
+
+    Map<String, IngestCheckpoint> findAll();
+
+    void recordPage(String term, int rows);
+
+    void markCompleted(String term);
+
+}
@@ -0,0 +1,88 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.entity.IngestCheckpoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JPA-based implementation of {@link IngestCheckpointRepository}.
+ *
+ * <p>
+ * Each update runs in its own short transaction, so the recorded progress
+ * survives an ingest that is interrupted at any point.
+ * </p>
+ */
+public class IngestCheckpointRepositoryImpl implements IngestCheckpointRepository {
+    private static final Logger logger = LoggerFactory.getLogger(IngestCheckpointRepositoryImpl.class);
+    private final EntityManagerFactory emf;
+
+    /**
+     * Creates a new {@code IngestCheckpointRepositoryImpl}.
+     *
+     * @param emf the {@link EntityManagerFactory} used to create entity managers
+     */
+    public IngestCheckpointRepositoryImpl(EntityManagerFactory emf) {
+        this.emf = emf;
+    }
+
+    /**
+     * Returns all recorded checkpoints.
+     *
+     * @return checkpoints keyed by search term
+     */
+    @Override
+    public Map<String, IngestCheckpoint> findAll() {
+        return ReadOnly.call(emf, em -> {
+            Map<String, IngestCheckpoint> checkpoints = new LinkedHashMap<>();
+            em.createQuery("select c from IngestCheckpoint c", IngestCheckpoint.class)
+                .getResultList()
+                .forEach(c -> checkpoints.put(c.getTerm(), c));
+            return checkpoints;
+        });
+    }
+
+    /**
+     * Records a persisted page of a search term, creating its checkpoint if needed.
+     *
+     * @param term search term the page belongs to
+     * @param rows number of results on the page
+     * @throws IllegalArgumentException if {@code term} is {@code null}
+     */
+    @Override
+    public void recordPage(String term, int rows) {
+        if (term == null) {
+            logger.error("recordPage: term is null");
+            throw new IllegalArgumentException("term cannot be null");
+        }
+        emf.runInTransaction(em -> findOrCreate(em, term).pageDone(rows));
+    }
+
+    /**
+     * Marks a search term as fully ingested, creating its checkpoint if needed.
+     *
+     * @param term search term to mark
+     * @throws IllegalArgumentException if {@code term} is {@code null}
+     */
+    @Override
+    public void markCompleted(String term) {
+        if (term == null) {
+            logger.error("markCompleted: term is null");
+            throw new IllegalArgumentException("term cannot be null");
+        }
+        emf.runInTransaction(em -> findOrCreate(em, term).complete());
+    }
+
+    private static IngestCheckpoint findOrCreate(EntityManager em, String term) {
+        IngestCheckpoint checkpoint = em.find(IngestCheckpoint.class, term);
+        if (checkpoint == null) {
+            checkpoint = new IngestCheckpoint(term);
+            em.persist(checkpoint);
+        }
+        return checkpoint;
+    }
+}
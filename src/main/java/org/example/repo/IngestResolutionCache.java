@@ -0,0 +1,139 @@
+package org.example.repo;
+
+import org.example.ItunesDTO;
+import org.example.entity.Album;
+import org.example.entity.Artist;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Artists and albums resolved during a single ingest run, keyed by their
+ * iTunes ids.
+ *
+ * <p>Search results repeat the artist and album of every track, and the
+ * same album often spans several pages. Once an artist or album has been
+ * found in or written to the database, later rows reuse the resolved entity
+ * instead of building it from the DTO again and checking whether it exists.
+ * Only entities that are known to be persisted are added, so a failed write
+ * never leaves an unsaved entity behind for later rows to reference.</p>
+ *
+ * <p>A cache lives for one ingest run and is not shared between runs, which
+ * keeps it consistent with the database without any invalidation. Instances
+ * are not thread-safe; ingest persists on a single thread.</p>
+ */
+public class IngestResolutionCache {
+    private final Map<Long, Artist> artists = new HashMap<>();
+    private final Map<Long, Album> albums = new HashMap<>();
+    private long artistHits;
+    private long albumHits;
+
+    /**
+     * Returns an artist resolved earlier in this run.
+     *
+     * @param artistId iTunes artist id
+     * @return the resolved artist, or {@code null} if it has not been resolved yet
+     */
+    public Artist artist(Long artistId) {
+        Artist artist = artists.get(artistId);
+        if (artist != null) {
+            artistHits++;
+        }
+        return artist;
+    }
+
+    /**
+     * Returns an album resolved earlier in this run.
+     *
+     * @param collectionId iTunes collection id
+     * @return the resolved album, or {@code null} if it has not been resolved yet
+     */
+    public Album album(Long collectionId) {
+        Album album = albums.get(collectionId);
+        if (album != null) {
+            albumHits++;
+        }
+        return album;
+    }
+
+    /**
+     * Records an artist that exists in the database.
+     *
+     * @param artist persisted artist
+     */
+    public void resolved(Artist artist) {
+        artists.put(artist.getId(), artist);
+    }
+
+    /**
+     * Records an album that exists in the database.
+     *
+     * @param album persisted album
+     */
+    public void resolved(Album album) {
+        albums.put(album.getId(), album);
+    }
+
+    /**
+     * Returns the artist ids of the given results that still need an existence check.
+     *
+     * @param results search results
+     * @return distinct artist ids not resolved yet
+     */
+    public Set<Long> unresolvedArtistIds(Collection<ItunesDTO> results) {
+        return unresolved(results, ItunesDTO::artistId, artists);
+    }
+
+    /**
+     * Returns the collection ids of the given results that still need an existence check.
+     *
+     * @param results search results
+     * @return distinct collection ids not resolved yet
+     */
+    public Set<Long> unresolvedAlbumIds(Collection<ItunesDTO> results) {
+        return unresolved(results, ItunesDTO::collectionId, albums);
+    }
+
+    /**
+     * @return number of rows whose artist was served from this cache
+     */
+    public long artistHits() {
+        return artistHits;
+    }
+
+    /**
+     * Returns the number of rows whose album was served from this cache. Each
+     * hit is an album that was neither rebuilt from its DTO nor looked up
+     * again, and whose artwork is therefore not requested again.
+     *
+     * @return number of rows whose album was served from this cache
+     */
+    public long albumHits() {
+        return albumHits;
+    }
+
+    /**
+     * @return number of distinct artists resolved in this run
+     */
+    public int artistCount() {
+        return artists.size();
+    }
+
+    /**
+     * @return number of distinct albums resolved in this run
+     */
+    public int albumCount() {
+        return albums.size();
+    }
+
+    private static Set<Long> unresolved(Collection<ItunesDTO> results, Function<ItunesDTO, Long> id, Map<Long, ?> resolved) {
+        return results.stream()
+            .map(id)
+            .filter(key -> !resolved.containsKey(key))
+            .collect(Collectors.toSet());
+    }
+}
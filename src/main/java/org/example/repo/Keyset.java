@@ -0,0 +1,89 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Keyset (seek) pagination over entities ordered by name and identifier.
+ *
+ * <p>
+ * A page is requested with the name and identifier of the last row of the
+ * previous page instead of an offset. The query seeks directly to that
+ * position through the {@code (name, id)} index, so every page costs the
+ * same regardless of how deep into the table it is; an {@code OFFSET} query
+ * has to read and discard every skipped row.
+ * </p>
+ *
+ * <p>
+ * Rows are ordered by name, then by identifier, which makes the order
+ * total and stable across pages even when names repeat. Rows without a
+ * name come first; MySQL and H2 both sort {@code null} lowest by default.
+ * Spelling out {@code nulls first} would make MySQL sort by an expression
+ * and lose the index order.
+ * </p>
+ */
+final class Keyset {
+    private static final Logger logger = LoggerFactory.getLogger(Keyset.class);
+
+    private Keyset() {
+    }
+
+    /**
+     * Fetches the page following the given position.
+     *
+     * @param em        entity manager to query with
+     * @param type      entity type
+     * @param select    query selecting the entities under {@code alias}, without {@code where} or {@code order by}
+     * @param alias     alias of the paged entity in {@code select}
+     * @param afterName name of the last row of the previous page, {@code null} for the first page or if that row has no name
+     * @param afterId   identifier of the last row of the previous page, {@code null} for the first page
+     * @param limit     maximum number of rows
+     * @param <T>       the entity type
+     * @return the next page, empty once the end of the table has been reached
+     */
+    static <T> List<T> page(EntityManager em, Class<T> type, String select, String alias,
+                            String afterName, Long afterId, int limit) {
+        String name = alias + ".name";
+        String id = alias + ".id";
+        String where;
+        if (afterId == null) {
+            where = "";
+        } else if (afterName == null) {
+            where = " where (" + name + " is null and " + id + " > :afterId) or " + name + " is not null";
+        } else {
+            // The leading range condition lets the index seek instead of evaluating the disjunction per row
+            where = " where " + name + " >= :afterName and (" + name + " > :afterName or " + id + " > :afterId)";
+        }
+
+        TypedQuery<T> query = em.createQuery(
+                select + where + " order by " + name + ", " + id, type)
+            .setMaxResults(limit);
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+        if (afterName != null) {
+            query.setParameter("afterName", afterName);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Validates the arguments of a page request.
+     *
+     * @param method    name of the calling finder, used in the log message
+     * @param afterName name of the last row of the previous page
+     * @param afterId   identifier of the last row of the previous page
+     * @param limit     maximum number of rows
+     * @throws IllegalArgumentException if {@code limit} is less than 1, or a name is given without an identifier
+     */
+    static void validate(String method, String afterName, Long afterId, int limit) {
+        if (limit < 1 || (afterName != null && afterId == null)) {
+            logger.error("{}: invalid page request after ({}, {}) with limit {}", method, afterName, afterId, limit);
+            throw new IllegalArgumentException("limit must be at least 1 and afterName requires afterId");
+        }
+    }
+}
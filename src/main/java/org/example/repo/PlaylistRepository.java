@@ -26,8 +26,16 @@ public interface PlaylistRepository {
 
     Playlist findById(Long id);
 
+    List<PlaylistRow> findRows();
+
     boolean isSongInPlaylist(Playlist playlist, Song song);
 
+    boolean isSongInPlaylist(Long playlistId, Long songId);
+
+    Set<Long> playlistsContaining(Song song);
+
+    Set<Long> playlistsContaining(Long songId);
+
     Playlist createPlaylist(String name);
 
     void renamePlaylist(Playlist playlist, String newName);
@@ -38,6 +46,8 @@ public interface PlaylistRepository {
 
     void addSongs(Playlist playlist, Collection<Song> songs);
 
+    int addSongs(Long playlistId, Collection<Long> songIds);
+
     void removeSong(Playlist playlist, Song song);
 
 }
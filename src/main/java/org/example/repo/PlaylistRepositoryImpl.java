@@ -5,11 +5,16 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.NoResultException;
 import org.example.entity.Playlist;
 import org.example.entity.Song;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.PreparedStatement;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -22,13 +27,31 @@ import java.util.Set;
  * </p>
  *
  * <p>
- * All write operations are executed within transactions. Read operations
- * use dedicated {@code EntityManager} instances to ensure proper resource handling.
+ * All write operations are executed within transactions. Reads that load
+ * playlists run in read-only sessions, so the loaded songs, albums and
+ * artists are neither snapshotted for dirty checking nor flushed.
+ * </p>
+ *
+ * <p>
+ * The playlist finders fetch-join every song, album and artist and are not
+ * query-cached: a cached result only holds identifiers, and every song no
+ * longer in the second-level cache would then be loaded with a query of
+ * its own. Every mutation evicts the changed playlist from the
+ * second-level cache, so the next read sees the change.
  * </p>
  */
 public class PlaylistRepositoryImpl implements PlaylistRepository {
     private static final Logger logger = LoggerFactory.getLogger(PlaylistRepositoryImpl.class);
+
+    /**
+     * Batch insert into the join table of {@code Playlist.songs}. The table
+     * and column names must match its {@code @JoinTable} mapping.
+     */
+    private static final String INSERT_SONG =
+        "insert into Playlist_Song (Playlist_id, songs_song_id) values (?, ?)";
+
     private final EntityManagerFactory emf;
+    private final CatalogCache cache;
 
     /**
      * Creates a new {@code PlaylistRepositoryImpl}.
@@ -37,6 +60,7 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
      */
     public PlaylistRepositoryImpl(EntityManagerFactory emf) {
         this.emf = emf;
+        this.cache = new CatalogCache(emf);
     }
 
     /**
@@ -52,11 +76,11 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             logger.error("existsByUniqueId: id is null");
             throw new IllegalArgumentException("Playlist id can not be null");
         }
-        try (var em = emf.createEntityManager()) {
-            return em.createQuery("select count(pl) from Playlist pl where pl.id = :playlistId", Long.class)
+        return ReadOnly.call(emf, em ->
+            em.createQuery("select count(pl) from Playlist pl where pl.id = :playlistId", Long.class)
                 .setParameter("playlistId", id)
-                .getSingleResult() > 0;
-        }
+                .getSingleResult() > 0
+        );
     }
 
     /**
@@ -70,15 +94,15 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
      */
     @Override
     public List<Playlist> findAll() {
-        try (var em = emf.createEntityManager()) {
-            return em.createQuery(
-                "SELECT DISTINCT p FROM Playlist p " +
-                    "LEFT JOIN FETCH p.songs s " +
-                    "LEFT JOIN FETCH s.album a " +
-                    "LEFT JOIN FETCH a.artist",
-                Playlist.class
-            ).getResultList();
-        }
+        return ReadOnly.call(emf, em ->
+            em.createQuery(
+                    "SELECT DISTINCT p FROM Playlist p " +
+                        "LEFT JOIN FETCH p.songs s " +
+                        "LEFT JOIN FETCH s.album a " +
+                        "LEFT JOIN FETCH a.artist",
+                    Playlist.class
+                )
+                .getResultList());
     }
 
     /**
@@ -96,7 +120,7 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             logger.error("findById: id is null");
             throw new IllegalArgumentException("Playlist id can not be null");
         }
-        try (var em = emf.createEntityManager()) {
+        return ReadOnly.call(emf, em -> {
             try {
                 return em.createQuery(
                         "SELECT p FROM Playlist p " +
@@ -112,7 +136,26 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
                 logger.error("findById: Playlist not found with id: {}", id);
                 throw new EntityNotFoundException("Playlist with id " + id + " not found");
             }
-        }
+        });
+    }
+
+    /**
+     * Retrieves all playlists as {@link PlaylistRow} projections ordered by
+     * identifier, so the library comes first.
+     *
+     * <p>
+     * Only the playlist table is read; songs are loaded when a playlist is
+     * opened, see {@link SongRepository#findRowsByPlaylist(Long)}.
+     * </p>
+     *
+     * @return a list of rows for all playlists
+     */
+    @Override
+    public List<PlaylistRow> findRows() {
+        return ReadOnly.call(emf, em ->
+            em.createQuery("select new org.example.repo.PlaylistRow(p.id, p.name) from Playlist p order by p.id",
+                    PlaylistRow.class)
+                .getResultList());
     }
 
     /**
@@ -122,6 +165,7 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
      * @param song the song to look for
      * @return {@code true} if the song is contained in the playlist, otherwise {@code false}
      * @throws IllegalArgumentException if {@code playlist} or {@code song} is {@code null}
+     * @see #isSongInPlaylist(Long, Long)
      */
     @Override
     public boolean isSongInPlaylist(Playlist playlist, Song song) {
@@ -129,13 +173,83 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             logger.error("isSongInPlaylist: playlist or song is null");
             throw new IllegalArgumentException("playlist and song cannot be null");
         }
-        try (var em = emf.createEntityManager()) {
-            Playlist managed = em.find(Playlist.class, playlist.getId());
-            if (managed == null) {
-                return false;
-            }
-            return managed.getSongs().contains(song);
+        return isSongInPlaylist(playlist.getId(), song.getId());
+    }
+
+    /**
+     * Checks whether a song is part of a playlist by identifier.
+     *
+     * <p>
+     * The membership is resolved in the join table, through its indexes,
+     * so the cost does not depend on the size of the playlist and neither
+     * entity is loaded.
+     * </p>
+     *
+     * @param playlistId the ID of the playlist to check
+     * @param songId the ID of the song to look for
+     * @return {@code true} if the song is contained in the playlist, otherwise {@code false}
+     * @throws IllegalArgumentException if {@code playlistId} or {@code songId} is {@code null}
+     */
+    @Override
+    public boolean isSongInPlaylist(Long playlistId, Long songId) {
+        if (playlistId == null || songId == null) {
+            logger.error("isSongInPlaylist: playlistId or songId is null");
+            throw new IllegalArgumentException("playlistId and songId cannot be null");
         }
+        return ReadOnly.call(emf, em ->
+            !em.createQuery(
+                    "select s.id from Playlist p join p.songs s where p.id = :playlistId and s.id = :songId", Long.class)
+                .setParameter("playlistId", playlistId)
+                .setParameter("songId", songId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty()
+        );
+    }
+
+    /**
+     * Returns the identifiers of all playlists containing a song.
+     *
+     * @param song the song to look for
+     * @return identifiers of the playlists containing the song, empty if there are none
+     * @throws IllegalArgumentException if {@code song} is {@code null}
+     * @see #playlistsContaining(Long)
+     */
+    @Override
+    public Set<Long> playlistsContaining(Song song) {
+        if (song == null) {
+            logger.error("playlistsContaining: song is null");
+            throw new IllegalArgumentException("song cannot be null");
+        }
+        return playlistsContaining(song.getId());
+    }
+
+    /**
+     * Returns the identifiers of all playlists containing a song, by song
+     * identifier.
+     *
+     * <p>
+     * Resolved with a single query on the song index of the join table,
+     * so membership can be shown for every playlist at once regardless of
+     * how many songs the playlists hold.
+     * </p>
+     *
+     * @param songId the ID of the song to look for
+     * @return identifiers of the playlists containing the song, empty if there are none
+     * @throws IllegalArgumentException if {@code songId} is {@code null}
+     */
+    @Override
+    public Set<Long> playlistsContaining(Long songId) {
+        if (songId == null) {
+            logger.error("playlistsContaining: songId is null");
+            throw new IllegalArgumentException("songId cannot be null");
+        }
+        return ReadOnly.call(emf, em ->
+            new HashSet<>(em.createQuery(
+                    "select p.id from Playlist p join p.songs s where s.id = :songId", Long.class)
+                .setParameter("songId", songId)
+                .getResultList())
+        );
     }
 
     /**
@@ -177,6 +291,7 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             }
             managed.setName(newName);
         });
+        cache.evictPlaylist(playlist.getId());
     }
 
     /**
@@ -192,9 +307,12 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             throw new IllegalArgumentException("Playlist cannot be null");
         }
         emf.runInTransaction(em -> {
-            Playlist managed = em.merge(playlist);
-            em.remove(managed);
+            Playlist managed = em.find(Playlist.class, playlist.getId());
+            if (managed != null) {
+                em.remove(managed);
+            }
         });
+        cache.evictPlaylist(playlist.getId());
     }
 
     /**
@@ -225,6 +343,7 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             }
             managedPlaylist.addSong(managedSong);
         });
+        cache.evictPlaylist(playlist.getId());
     }
 
     /**
@@ -247,9 +366,16 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
                 logger.error("addSongs: playlist not found with id: {}", playlist.getId());
                 throw new IllegalArgumentException("Playlist not found with id: " + playlist.getId());
             }
+            // Resolve all songs in chunked IN queries instead of one lookup per song
+            Map<Long, Song> managedSongs = new HashMap<>();
+            for (List<Long> chunk : IdChunks.split(songs.stream().map(Song::getId).toList())) {
+                em.createQuery("select s from Song s where s.id in :ids", Song.class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(s -> managedSongs.put(s.getId(), s));
+            }
             for (Song s : songs) {
-                Song managedSong =
-                    em.find(Song.class, s.getId());
+                Song managedSong = managedSongs.get(s.getId());
                 if (managedSong == null) {
                     logger.error("addSongs: song not found with id: {}", s.getId());
                     throw new IllegalArgumentException("Song not found with id: " + s.getId());
@@ -257,6 +383,76 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
                 managedPlaylist.addSong(managedSong);
             }
         });
+        cache.evictPlaylist(playlist.getId());
+    }
+
+    /**
+     * Adds songs to a playlist by identifier.
+     *
+     * <p>
+     * The rows are inserted into the join table directly, so neither the
+     * playlist's songs nor the added songs are loaded. This keeps adding to
+     * the library, which holds every song, independent of its size. Songs
+     * already contained in the playlist are skipped.
+     * </p>
+     *
+     * @param playlistId the target playlist ID
+     * @param songIds the IDs of the songs to add
+     * @return the number of songs that were not yet contained and have been added
+     * @throws IllegalArgumentException if the playlist or a song does not exist
+     */
+    @Override
+    public int addSongs(Long playlistId, Collection<Long> songIds) {
+        if (playlistId == null || songIds == null) {
+            logger.error("addSongs: playlistId or songIds is null");
+            throw new IllegalArgumentException("Playlist id and song ids cannot be null");
+        }
+        if (songIds.isEmpty()) {
+            return 0;
+        }
+        int added = emf.callInTransaction(em -> {
+            if (em.find(Playlist.class, playlistId) == null) {
+                logger.error("addSongs: playlist not found with id: {}", playlistId);
+                throw new IllegalArgumentException("Playlist not found with id: " + playlistId);
+            }
+            Set<Long> found = new HashSet<>();
+            Set<Long> contained = new HashSet<>();
+            for (List<Long> chunk : IdChunks.split(songIds)) {
+                found.addAll(em.createQuery("select s.id from Song s where s.id in :ids", Long.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+                contained.addAll(em.createQuery(
+                        "select s.id from Playlist p join p.songs s where p.id = :playlistId and s.id in :ids", Long.class)
+                    .setParameter("playlistId", playlistId)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+            }
+            Set<Long> toInsert = new HashSet<>();
+            for (Long songId : songIds) {
+                if (!found.contains(songId)) {
+                    logger.error("addSongs: song not found with id: {}", songId);
+                    throw new IllegalArgumentException("Song not found with id: " + songId);
+                }
+                if (!contained.contains(songId)) {
+                    toInsert.add(songId);
+                }
+            }
+            em.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_SONG)) {
+                    for (Long songId : toInsert) {
+                        insert.setLong(1, playlistId);
+                        insert.setLong(2, songId);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            });
+            return toInsert.size();
+        });
+        if (added > 0) {
+            cache.evictPlaylist(playlistId);
+        }
+        return added;
     }
 
     /**
@@ -289,5 +485,6 @@ public class PlaylistRepositoryImpl implements PlaylistRepository {
             }
             managedPlaylist.removeSong(managedSong);
         });
+        cache.evictPlaylist(playlist.getId());
     }
 }
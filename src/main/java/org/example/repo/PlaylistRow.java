@@ -0,0 +1,10 @@
+package org.example.repo;
+
+/**
+ * Read-only projection of a playlist for list screens, without its songs.
+ *
+ * @param id   playlist identifier
+ * @param name playlist name
+ */
+public record PlaylistRow(Long id, String name) {
+}
@@ -0,0 +1,42 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+import java.util.function.Function;
+
+/**
+ * Runs repository reads in read-only sessions.
+ *
+ * <p>
+ * Entities loaded by a read-only session are not snapshotted for dirty
+ * checking, and with {@link FlushMode#MANUAL} the session never flushes,
+ * so committing the transaction does not walk the persistence context.
+ * Finder methods return detached entities anyway; none of the tracking a
+ * writable session does would ever be used.
+ * </p>
+ */
+final class ReadOnly {
+
+    private ReadOnly() {
+    }
+
+    /**
+     * Runs {@code work} in a transaction of a read-only session.
+     *
+     * @param emf  the {@link EntityManagerFactory} to open the session from
+     * @param work the read to perform
+     * @param <T>  the result type
+     * @return the result of {@code work}
+     */
+    static <T> T call(EntityManagerFactory emf, Function<EntityManager, T> work) {
+        return emf.callInTransaction(em -> {
+            Session session = em.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            return work.apply(em);
+        });
+    }
+}
@@ -4,7 +4,10 @@ import org.example.entity.Album;
 import org.example.entity.Artist;
 import org.example.entity.Song;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Song} entities.
@@ -20,6 +23,10 @@ public interface SongRepository {
 
     boolean existsByUniqueId(Song song);
 
+    Set<Long> existingIds(Collection<Long> ids);
+
+    Map<Long, Song> findByIds(Collection<Long> ids);
+
     Long count();
 
     void save(Song song);
@@ -30,4 +37,12 @@ public interface SongRepository {
 
     List<Song> findByAlbum(Album album);
 
+    List<Song> findPage(String afterName, Long afterId, int limit);
+
+    List<SongRow> findRows();
+
+    List<SongRow> findRowsByAlbum(Long albumId);
+
+    List<SongRow> findRowsByPlaylist(Long playlistId);
+
 }
@@ -4,11 +4,15 @@ import jakarta.persistence.EntityManagerFactory;
 import org.example.entity.Album;
 import org.example.entity.Artist;
 import org.example.entity.Song;
+import org.hibernate.jpa.HibernateHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * JPA-based implementation of {@link SongRepository}.
@@ -20,11 +24,24 @@ import java.util.List;
  *
  * <p>
  * Certain queries eagerly fetch related album and artist entities to
- * avoid lazy loading issues in the presentation layer.
+ * avoid lazy loading issues in the presentation layer. Finders run in
+ * read-only sessions, so loading a large library does not keep a
+ * dirty-checking snapshot of every song or flush at commit.
  * </p>
  */
 public class SongRepositoryImpl implements SongRepository {
     private static final Logger logger = LoggerFactory.getLogger(SongRepositoryImpl.class);
+
+    /**
+     * Select and join clauses of the {@link SongRow} projections.
+     */
+    private static final String SONG_ROWS = """
+        select new org.example.repo.SongRow(s.id, s.name, s.length, s.previewUrl, a.id, a.name, a.coverHash, art.name)
+        from Song s
+        left join s.album a
+        left join a.artist art
+        """;
+
     private final EntityManagerFactory emf;
 
     /**
@@ -43,10 +60,10 @@ public class SongRepositoryImpl implements SongRepository {
      */
     @Override
     public Long count() {
-        try (var em = emf.createEntityManager()) {
-            return em.createQuery("select count(s) from Song s", Long.class)
-                .getSingleResult();
-        }
+        return ReadOnly.call(emf, em ->
+            em.createQuery("select count(s) from Song s", Long.class)
+                .getSingleResult()
+        );
     }
 
     /**
@@ -57,11 +74,46 @@ public class SongRepositoryImpl implements SongRepository {
      */
     @Override
     public boolean existsByUniqueId(Song song) {
-        try (var em = emf.createEntityManager()) {
-            return em.createQuery("select count(s) from Song s where s.id = :songId", Long.class)
+        return ReadOnly.call(emf, em ->
+            em.createQuery("select count(s) from Song s where s.id = :songId", Long.class)
                 .setParameter("songId", song.getId())
-                .getSingleResult() > 0;
-        }
+                .getSingleResult() > 0
+        );
+    }
+
+    /**
+     * Returns the identifiers among {@code ids} that belong to stored songs.
+     *
+     * <p>
+     * Identifiers are queried in chunks, so large collections are resolved
+     * in a handful of round trips instead of one query per identifier.
+     * </p>
+     *
+     * @param ids the identifiers to check
+     * @return the subset of {@code ids} that exist in the database
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    @Override
+    public Set<Long> existingIds(Collection<Long> ids) {
+        return IdLookups.existingIds(emf, Song.class, ids);
+    }
+
+    /**
+     * Retrieves all songs whose identifiers are contained in {@code ids}.
+     *
+     * <p>
+     * Identifiers without a stored song are absent from the returned map.
+     * Album and artist associations are eagerly fetched.
+     * </p>
+     *
+     * @param ids the identifiers to look up
+     * @return the found songs keyed by identifier
+     * @throws IllegalArgumentException if {@code ids} is {@code null}
+     */
+    @Override
+    public Map<Long, Song> findByIds(Collection<Long> ids) {
+        return IdLookups.findByIds(emf, Song.class,
+            "select s from Song s join fetch s.album a join fetch a.artist", "s", Song::getId, ids);
     }
 
     /**
@@ -81,7 +133,7 @@ public class SongRepositoryImpl implements SongRepository {
      */
     @Override
     public List<Song> findAll() {
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery("select s from Song s", Song.class)
                 .getResultList());
     }
@@ -103,7 +155,7 @@ public class SongRepositoryImpl implements SongRepository {
             return new ArrayList<>();
         }
 
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery(
                     """
                         select s
@@ -131,7 +183,7 @@ public class SongRepositoryImpl implements SongRepository {
             return new ArrayList<>();
         }
 
-        return emf.callInTransaction(em ->
+        return ReadOnly.call(emf, em ->
             em.createQuery(
                     """
                         select s
@@ -145,4 +197,103 @@ public class SongRepositoryImpl implements SongRepository {
                 .setParameter("album", album)
                 .getResultList());
     }
+
+    /**
+     * Retrieves a page of songs ordered by title, starting after the
+     * given position.
+     *
+     * <p>
+     * Pass the title and identifier of the last song of the previous page to
+     * fetch the next one. Unlike an offset, the position is resolved
+     * through an index, so deep pages cost the same as the first. Album and
+     * artist associations are eagerly fetched; songs without an album or
+     * artist are included.
+     * </p>
+     *
+     * @param afterName title of the last song of the previous page, {@code null} for the first page
+     * @param afterId   identifier of the last song of the previous page, {@code null} for the first page
+     * @param limit     maximum number of songs
+     * @return the next page, empty once all songs have been returned
+     * @throws IllegalArgumentException if {@code limit} is less than 1, or {@code afterName} is given without {@code afterId}
+     */
+    @Override
+    public List<Song> findPage(String afterName, Long afterId, int limit) {
+        Keyset.validate("findPage", afterName, afterId, limit);
+        return ReadOnly.call(emf, em ->
+            Keyset.page(em, Song.class, "select s from Song s left join fetch s.album a left join fetch a.artist", "s", afterName, afterId, limit));
+    }
+
+    /**
+     * Retrieves all songs as {@link SongRow} projections ordered by title.
+     *
+     * @return a list of rows for all songs
+     */
+    @Override
+    public List<SongRow> findRows() {
+        return ReadOnly.call(emf, em ->
+            em.createQuery(SONG_ROWS + "order by s.name, s.id", SongRow.class)
+                .getResultList());
+    }
+
+    /**
+     * Retrieves the songs of an album as {@link SongRow} projections.
+     *
+     * <p>
+     * Results are kept in the {@value CatalogCache#CATALOG_QUERIES} query
+     * cache region. A cached projection holds the row values themselves, so
+     * serving it never loads a song, album or artist.
+     * </p>
+     *
+     * @param albumId identifier of the album
+     * @return a list of rows, or an empty list if {@code albumId} is {@code null}
+     */
+    @Override
+    public List<SongRow> findRowsByAlbum(Long albumId) {
+        if (albumId == null) {
+            logger.debug("findRowsByAlbum: albumId is null");
+            return new ArrayList<>();
+        }
+
+        return ReadOnly.call(emf, em ->
+            em.createQuery(SONG_ROWS + "where a.id = :albumId order by s.name, s.id", SongRow.class)
+                .setParameter("albumId", albumId)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, CatalogCache.CATALOG_QUERIES)
+                .getResultList());
+    }
+
+    /**
+     * Retrieves the songs of a playlist as {@link SongRow} projections.
+     *
+     * <p>
+     * Only the join table and the catalog columns shown in the list are
+     * read; the playlist itself is not loaded.
+     * </p>
+     *
+     * @param playlistId identifier of the playlist
+     * @return a list of rows, or an empty list if {@code playlistId} is {@code null}
+     */
+    @Override
+    public List<SongRow> findRowsByPlaylist(Long playlistId) {
+        if (playlistId == null) {
+            logger.debug("findRowsByPlaylist: playlistId is null");
+            return new ArrayList<>();
+        }
+
+        return ReadOnly.call(emf, em ->
+            em.createQuery(
+                    """
+                        select new org.example.repo.SongRow(s.id, s.name, s.length, s.previewUrl, a.id, a.name, a.coverHash, art.name)
+                        from Playlist p
+                        join p.songs s
+                        left join s.album a
+                        left join a.artist art
+                        where p.id = :playlistId
+                        order by s.name, s.id
+                        """,
+                    SongRow.class
+                )
+                .setParameter("playlistId", playlistId)
+                .getResultList());
+    }
 }
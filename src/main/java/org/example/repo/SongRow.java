@@ -0,0 +1,45 @@
+package org.example.repo;
+
+/**
+ * Read-only projection of a song for list screens.
+ *
+ * <p>
+ * Holds the scalar columns needed to list and play a song, selected
+ * directly by the query instead of loading the managed song, album and
+ * artist graph.
+ * </p>
+ *
+ * @param id         song identifier
+ * @param name       song title
+ * @param length     length in milliseconds, or {@code null} if unknown
+ * @param previewUrl preview stream URL
+ * @param albumId    identifier of the album, or {@code null} if the song has none
+ * @param albumName  name of the album
+ * @param coverHash  content hash of the album cover, or {@code null} if it has not been downloaded yet
+ * @param artistName name of the album's artist
+ */
+public record SongRow(Long id, String name, Long length, String previewUrl,
+                      Long albumId, String albumName, String coverHash, String artistName) {
+
+    /**
+     * Returns the song length formatted as {@code mm:ss}.
+     *
+     * @return formatted duration string
+     */
+    public String formattedLength() {
+        if (length == null) return "0:00";
+
+        long seconds = length / 1000;
+        return String.format("%d:%02d", seconds / 60, seconds % 60);
+    }
+
+    /**
+     * Returns a copy of this row with the given album cover.
+     *
+     * @param coverHash content hash of the album cover
+     * @return a new row
+     */
+    public SongRow withCoverHash(String coverHash) {
+        return new SongRow(id, name, length, previewUrl, albumId, albumName, coverHash, artistName);
+    }
+}
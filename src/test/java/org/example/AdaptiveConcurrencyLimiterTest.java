@@ -0,0 +1,93 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimiter}.
+ */
+@DisplayName("Adaptive Concurrency Limiter Tests")
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("Should grow additively on fast responses and halve on throttling")
+    void limit_shouldIncreaseAdditivelyAndDecreaseMultiplicatively() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 0.5, Duration.ofSeconds(1));
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+            limiter.onSuccess(Duration.ofMillis(10).toNanos());
+        }
+        int grown = limiter.limit();
+        limiter.acquire();
+        limiter.onThrottled();
+
+        // Then
+        assertThat(grown).isEqualTo(5);
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.throttled()).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stay within its bounds and shrink on slow responses")
+    void limit_shouldRespectBounds() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 2, 0.5, Duration.ofMillis(100));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.onDropped();
+        }
+        int floor = limiter.limit();
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire();
+            limiter.onSuccess(0);
+        }
+        int ceiling = limiter.limit();
+        limiter.acquire();
+        limiter.onSuccess(Duration.ofSeconds(1).toNanos());
+
+        // Then
+        assertThat(floor).isEqualTo(1);
+        assertThat(ceiling).isEqualTo(2);
+        assertThat(limiter.limit()).isEqualTo(1);
+        assertThat(limiter.dropped()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should block requests beyond the limit until a permit is returned")
+    void acquire_shouldWaitForPermit() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, Duration.ofSeconds(1));
+        limiter.acquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        boolean acquiredWhileHeld = acquired.await(100, TimeUnit.MILLISECONDS);
+        limiter.onCancelled();
+
+        // Then
+        assertThat(acquiredWhileHeld).isFalse();
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+}
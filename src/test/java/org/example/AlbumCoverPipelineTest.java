@@ -0,0 +1,99 @@
+package org.example;
+
+import org.example.cover.FileCoverStore;
+import org.example.entity.Album;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AlbumCoverPipeline} against a local {@link ItunesStubServer}.
+ */
+@DisplayName("Album Cover Pipeline Tests")
+public class AlbumCoverPipelineTest extends RepoTest {
+
+    @TempDir
+    Path coverDir;
+
+    private ItunesStubServer stub;
+    private FileCoverStore coverStore;
+    private AlbumCoverPipeline pipeline;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = ItunesStubServer.start()
+            .withArtwork("flaky.jpg", jpeg(), 2)
+            .withArtwork("broken.jpg", new byte[]{1, 2, 3}, 0);
+        coverStore = new FileCoverStore(coverDir);
+        pipeline = new AlbumCoverPipeline(albumRepo, coverStore, HttpClient.newHttpClient(),
+            2, Duration.ofSeconds(5), 3, Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures and attach the cover")
+    void run_shouldAttachCoverAfterRetries() throws IOException {
+        // Given
+        saveAlbumWithArtwork(33L, "flaky.jpg");
+        Map<Long, String> notified = new ConcurrentHashMap<>();
+
+        // When
+        int attached = pipeline.run(notified::put);
+
+        // Then
+        assertThat(attached).isEqualTo(1);
+        assertThat(stub.artworkRequests("flaky.jpg")).isEqualTo(3);
+        assertThat(notified).containsOnlyKeys(33L);
+        assertThat(albumRepo.findByIds(List.of(33L)).get(33L).getCoverHash()).isEqualTo(notified.get(33L));
+        assertThat(coverStore.read(notified.get(33L)))
+            .hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(jpeg()));
+        assertThat(albumRepo.findWithoutCover()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip artwork that is not a supported image format without retrying")
+    void run_shouldSkipInvalidImage() {
+        // Given
+        saveAlbumWithArtwork(33L, "broken.jpg");
+
+        // When
+        int attached = pipeline.run((id, cover) -> {
+        });
+
+        // Then
+        assertThat(attached).isZero();
+        assertThat(stub.artworkRequests("broken.jpg")).isEqualTo(1);
+        assertThat(albumRepo.findByIds(List.of(33L)).get(33L).getCoverHash()).isNull();
+    }
+
+    private void saveAlbumWithArtwork(Long id, String artwork) {
+        Album album = new Album(id, "Covered", "Test Rock", 2001, 1L, null, testArtist1);
+        album.setArtworkUrl(stub.artworkUri(artwork).toString());
+        albumRepo.save(album);
+    }
+
+    private static byte[] jpeg() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -3,12 +3,17 @@ package org.example;
 import org.example.entity.Album;
 import org.example.entity.Artist;
 import org.example.repo.AlbumRepositoryImpl;
+import org.example.repo.AlbumRow;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for {@link AlbumRepositoryImpl}.
@@ -83,4 +88,91 @@ public class AlbumRepoTest extends RepoTest {
         // Then
         assertThat(albums).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should return only the ids of stored albums")
+    void existingIds_shouldReturnStoredIdsOnly() {
+        // Given, When
+        Set<Long> ids = albumRepo.existingIds(List.of(testAlbum1.getId(), 999L));
+
+        // Then
+        assertThat(ids).containsExactly(testAlbum1.getId());
+    }
+
+    @Test
+    @DisplayName("Should return empty set when no ids are given")
+    void existingIds_shouldReturnEmptySetForNoIds() {
+        // Given, When
+        Set<Long> ids = albumRepo.existingIds(List.of());
+
+        // Then
+        assertThat(ids).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find albums keyed by id")
+    void findByIds_shouldReturnAlbumsKeyedById() {
+        // Given, When
+        Map<Long, Album> albums = albumRepo.findByIds(List.of(testAlbum1.getId(), testAlbum2.getId()));
+
+        // Then
+        assertThat(albums).containsOnlyKeys(testAlbum1.getId(), testAlbum2.getId());
+    }
+
+    @Test
+    @DisplayName("Should load albums without any image data")
+    void findAll_shouldNotLoadCoverBytes() {
+        // Given
+        var attributes = TestPersistenceManager.get().getMetamodel().entity(Album.class).getAttributes();
+
+        // When
+        List<Album> albums = albumRepo.findAll();
+
+        // Then
+        assertThat(attributes).noneMatch(attribute ->
+            byte[].class.equals(attribute.getJavaType()) || Byte[].class.equals(attribute.getJavaType()));
+        assertThat(albums).extracting(Album::getCoverHash).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Should project the albums of an artist to rows")
+    void findRowsByArtist_shouldProjectAlbumsToRows() {
+        // Given, When
+        List<AlbumRow> rows = albumRepo.findRowsByArtist(testArtist1.getId());
+
+        // Then
+        assertThat(rows).containsExactly(new AlbumRow(11L, "Best of Test", 1L, "Test and Test"));
+        assertThat(albumRepo.findRows()).extracting(AlbumRow::name).containsExactly("Best of Test", "Test volume 2");
+    }
+
+    @Test
+    @DisplayName("Should page through albums in name order")
+    void findPage_shouldPageThroughAlbumsInOrder() {
+        // Given
+        Album duplicateName = new Album(33L, "Best of Test", "Test Rock", 1995, 4L, null, testArtist2);
+        Album noArtist = new Album(44L, "Anonymous Tests", "Test Pop", 2001, 1L, null, null);
+        albumRepo.save(duplicateName);
+        albumRepo.save(noArtist);
+        List<Album> pages = new ArrayList<>();
+
+        // When
+        List<Album> page = albumRepo.findPage(null, null, 2);
+        while (!page.isEmpty()) {
+            pages.addAll(page);
+            Album last = page.getLast();
+            page = albumRepo.findPage(last.getName(), last.getId(), 2);
+        }
+
+        // Then
+        assertThat(pages).containsExactly(noArtist, testAlbum1, duplicateName, testAlbum2);
+        assertThat(pages.get(2).getArtist()).isEqualTo(testArtist2);
+    }
+
+    @Test
+    @DisplayName("Should reject an album page request with a name but no id")
+    void findPage_shouldRejectNameWithoutId() {
+        // Given, When, Then
+        assertThatThrownBy(() -> albumRepo.findPage("Best of Test", null, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
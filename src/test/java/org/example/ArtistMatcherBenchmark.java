@@ -0,0 +1,108 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares {@link ArtistMatcher} against the regex based normalization it
+ * replaced in {@link ItunesApiClient}.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@DisplayName("Artist Matcher Benchmark")
+public class ArtistMatcherBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(ArtistMatcherBenchmark.class);
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final String TERM = "viagra+boys";
+    private static final List<String> NAMES = names();
+
+    @Test
+    @DisplayName("Regex normalization matches/second")
+    void regexNormalize() {
+        String normalizedTerm = legacyNormalize(TERM);
+        double rate = measure(() -> {
+            int hits = 0;
+            for (String name : NAMES) {
+                if (normalizedTerm.equals(legacyNormalize(name))) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+        logger.info("regexNormalize: {} matches/s", String.format("%.0f", rate));
+    }
+
+    @Test
+    @DisplayName("ArtistMatcher matches/second")
+    void artistMatcher() {
+        ArtistMatcher matcher = new ArtistMatcher(TERM);
+        double rate = measure(() -> {
+            int hits = 0;
+            for (String name : NAMES) {
+                if (matcher.matches(name)) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+        logger.info("artistMatcher: {} matches/s", String.format("%.0f", rate));
+    }
+
+    /**
+     * Runs a round of matches repeatedly and reports the measured throughput.
+     *
+     * @param round matches every name once and returns the number of hits
+     * @return names matched per second over the measured rounds
+     */
+    private double measure(Round round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            assertThat(round.run()).isEqualTo(NAMES.size() / 4);
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) NAMES.size() * MEASURED_ROUNDS / (elapsed / 1_000_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface Round {
+        int run();
+    }
+
+    /**
+     * Builds result artist names as they appear in a typical search response,
+     * a quarter of which match the term.
+     */
+    private static List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 25_000; i++) {
+            names.add("Viagra Boys");
+            names.add("Viagra Boys & Amyl and The Sniffers");
+            names.add("The Boys " + i);
+            names.add("Sleaford Mods");
+        }
+        return names;
+    }
+
+    /**
+     * The normalization previously used by {@link ItunesApiClient}.
+     */
+    private static String legacyNormalize(String s) {
+        return s.toLowerCase()
+            .replaceAll("[+\\s]+", " ")
+            .trim();
+    }
+}
@@ -0,0 +1,60 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ArtistMatcher}.
+ */
+@DisplayName("Artist Matcher Tests")
+public class ArtistMatcherTest {
+
+    @Test
+    @DisplayName("Should fold case, separators, diacritics and a leading 'The'")
+    void normalize_shouldFoldName() {
+        assertThat(ArtistMatcher.normalize("  The  Hives+ ")).isEqualTo("hives");
+        assertThat(ArtistMatcher.normalize("Mötley Crüe")).isEqualTo("motley crue");
+        assertThat(ArtistMatcher.normalize("Björk")).isEqualTo("bjork");
+        assertThat(ArtistMatcher.normalize("Theory of a Deadman")).isEqualTo("theory of a deadman");
+        assertThat(ArtistMatcher.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match names with the same folded key")
+    void matches_shouldAcceptEquivalentNames() {
+        // Given
+        ArtistMatcher matcher = new ArtistMatcher("the+knife");
+
+        // Then
+        assertThat(matcher.key()).isEqualTo("knife");
+        assertThat(matcher.matches("The Knife")).isTrue();
+        assertThat(matcher.matches("knife")).isTrue();
+        assertThat(matcher.matches("Knife Party")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should accept names within the configured edit distance")
+    void matches_shouldTolerateEdits() {
+        // Given
+        ArtistMatcher exact = new ArtistMatcher("metallica");
+        ArtistMatcher fuzzy = new ArtistMatcher("metallica", 1);
+
+        // Then
+        assertThat(exact.matches("Metalica")).isFalse();
+        assertThat(fuzzy.matches("Metalica")).isTrue();
+        assertThat(fuzzy.matches("Metallicca")).isTrue();
+        assertThat(fuzzy.matches("Metalika")).isFalse();
+        assertThat(fuzzy.matches("Megadeth")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a negative edit distance")
+    void constructor_shouldRejectNegativeEdits() {
+        assertThatThrownBy(() -> new ArtistMatcher("ghost", -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,10 +2,14 @@ package org.example;
 
 import org.example.entity.Artist;
 import org.example.repo.ArtistRepositoryImpl;
+import org.example.repo.ArtistRow;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -71,4 +75,65 @@ public class ArtistRepoTest extends RepoTest {
         // Then
         assertThat(exists).isFalse();
     }
+
+    @Test
+    @DisplayName("Should return only the ids of stored artists")
+    void existingIds_shouldReturnStoredIdsOnly() {
+        // Given, When
+        Set<Long> ids = artistRepo.existingIds(List.of(testArtist1.getId(), testArtist2.getId(), 999L));
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrder(testArtist1.getId(), testArtist2.getId());
+    }
+
+    @Test
+    @DisplayName("Should resolve ids beyond a single IN-list chunk")
+    void existingIds_shouldHandleLargeIdCollections() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().toList();
+
+        // When
+        Set<Long> existing = artistRepo.existingIds(ids);
+
+        // Then
+        assertThat(existing).containsExactlyInAnyOrder(testArtist1.getId(), testArtist2.getId());
+    }
+
+    @Test
+    @DisplayName("Should find artists keyed by id")
+    void findByIds_shouldReturnArtistsKeyedById() {
+        // Given, When
+        Map<Long, Artist> artists = artistRepo.findByIds(List.of(testArtist1.getId(), 999L));
+
+        // Then
+        assertThat(artists).containsOnlyKeys(testArtist1.getId());
+        assertThat(artists.get(testArtist1.getId())).isEqualTo(testArtist1);
+    }
+
+    @Test
+    @DisplayName("Should page through artists with unnamed artists first")
+    void findPage_shouldReturnUnnamedArtistsFirst() {
+        // Given
+        Artist unnamed = new Artist(3L, null, "Nowhere");
+        artistRepo.save(unnamed);
+
+        // When
+        List<Artist> first = artistRepo.findPage(null, null, 2);
+        Artist last = first.getLast();
+        List<Artist> second = artistRepo.findPage(last.getName(), last.getId(), 2);
+
+        // Then
+        assertThat(first).containsExactly(unnamed, testArtist2);
+        assertThat(second).containsExactly(testArtist1);
+    }
+
+    @Test
+    @DisplayName("Should project all artists to rows ordered by name")
+    void findRows_shouldProjectArtistsToRows() {
+        // Given, When
+        List<ArtistRow> rows = artistRepo.findRows();
+
+        // Then
+        assertThat(rows).containsExactly(new ArtistRow(2L, "T.E.S.T"), new ArtistRow(1L, "Test and Test"));
+    }
 }
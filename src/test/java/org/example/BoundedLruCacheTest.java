@@ -0,0 +1,63 @@
+package org.example;
+
+import org.example.cover.BoundedLruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedLruCache}.
+ */
+@DisplayName("Bounded LRU Cache Tests")
+public class BoundedLruCacheTest {
+
+    @Test
+    @DisplayName("Should evict least recently used entries when the budget is exceeded")
+    void put_shouldEvictLeastRecentlyUsed() {
+        // Given
+        BoundedLruCache<String, byte[]> cache = new BoundedLruCache<>(10, value -> value.length);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a");
+
+        // When
+        cache.put("c", new byte[4]);
+
+        // Then
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.weight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should keep the newest entry even if it exceeds the budget alone")
+    void put_shouldKeepOversizedNewestEntry() {
+        // Given
+        BoundedLruCache<String, byte[]> cache = new BoundedLruCache<>(10, value -> value.length);
+        cache.put("small", new byte[2]);
+
+        // When
+        cache.put("huge", new byte[20]);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("huge")).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("Should account for the weight of replaced values")
+    void put_shouldReplaceWeight() {
+        // Given
+        BoundedLruCache<String, byte[]> cache = new BoundedLruCache<>(10, value -> value.length);
+        cache.put("a", new byte[6]);
+
+        // When
+        cache.put("a", new byte[3]);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,115 @@
+package org.example;
+
+import org.example.entity.Playlist;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.IngestResolutionCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link BulkCatalogWriter}.
+ */
+@DisplayName("Bulk Catalog Writer Tests")
+public class BulkCatalogWriterTest extends RepoTest {
+
+    private BulkCatalogWriter writer;
+
+    @BeforeEach
+    void setupWriter() {
+        writer = new BulkCatalogWriter(TestPersistenceManager.get(), 10);
+    }
+
+    @Test
+    @DisplayName("Should insert every artist, album and song of a search result")
+    void write_shouldInsertAllEntities() {
+        // Given
+        List<ItunesDTO> dtos = TestCatalog.dtos(2, 3, 4);
+
+        // When
+        int inserted = writer.write(dtos);
+
+        // Then
+        assertThat(inserted).isEqualTo(2 + 6 + 24);
+        assertThat(artistRepo.count()).isEqualTo(4L);
+        assertThat(albumRepo.count()).isEqualTo(8L);
+        assertThat(songRepo.count()).isEqualTo(29L);
+    }
+
+    @Test
+    @DisplayName("Should skip entities that already exist")
+    void write_shouldSkipExistingEntities() {
+        // Given
+        ItunesDTO existing = TestCatalog.dto(testArtist1.getId(), testAlbum1.getId(), testSong1.getId(), testArtist1.getName());
+        ItunesDTO newSong = TestCatalog.dto(testArtist1.getId(), testAlbum1.getId(), 114L, testArtist1.getName());
+
+        // When
+        int inserted = writer.write(List.of(existing, newSong));
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(songRepo.findByAlbum(testAlbum1)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should insert nothing when the same result is written twice")
+    void write_shouldBeIdempotent() {
+        // Given
+        List<ItunesDTO> dtos = TestCatalog.dtos(1, 2, 5);
+        writer.write(dtos);
+
+        // When
+        int inserted = writer.write(dtos);
+
+        // Then
+        assertThat(inserted).isZero();
+        assertThat(songRepo.count()).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("Should reuse artists and albums resolved by earlier results of the same run")
+    void write_shouldResolveRepeatedAlbumsFromCache() {
+        // Given
+        List<ItunesDTO> dtos = TestCatalog.dtos(1, 1, 20);
+        IngestResolutionCache resolved = new IngestResolutionCache();
+        writer.write(dtos.subList(0, 10), resolved);
+
+        // When
+        int inserted = writer.write(dtos.subList(10, 20), resolved);
+
+        // Then
+        assertThat(inserted).isEqualTo(10);
+        assertThat(resolved.albumCount()).isEqualTo(1);
+        assertThat(resolved.albumHits()).isEqualTo(10);
+        assertThat(resolved.artistHits()).isEqualTo(10);
+        assertThat(albumRepo.count()).isEqualTo(3L);
+        assertThat(songRepo.count()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("Should update only changed rows and leave covers and playlists untouched")
+    void upsert_shouldWriteOnlyChangedRows() {
+        // Given
+        Playlist playlist = playlistRepo.createPlaylist("Playlist");
+        playlistRepo.addSong(playlist, testSong1);
+        albumRepo.updateCoverHash(testAlbum1.getId(), "a".repeat(64));
+        List<ItunesDTO> dtos = new ArrayList<>(TestCatalog.dtos(1, 1, 3));
+        writer.upsert(dtos);
+        dtos.add(TestCatalog.dto(testArtist1.getId(), testAlbum1.getId(), testSong1.getId(), testArtist1.getName()));
+
+        // When
+        BulkCatalogWriter.UpsertResult result = writer.upsert(dtos);
+
+        // Then
+        assertThat(result).isEqualTo(new BulkCatalogWriter.UpsertResult(0, 3, 5));
+        assertThat(songRepo.findByIds(List.of(testSong1.getId())).get(testSong1.getId()).getName()).isEqualTo("Song 111");
+        assertThat(albumRepo.findByIds(List.of(testAlbum1.getId())).get(testAlbum1.getId()).getCoverHash()).isEqualTo("a".repeat(64));
+        assertThat(playlistRepo.findById(playlist.getId()).getSongs()).containsExactly(testSong1);
+        assertThat(writer.upsert(dtos).changed()).isFalse();
+    }
+}
@@ -0,0 +1,140 @@
+package org.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.entity.Album;
+import org.example.entity.Playlist;
+import org.example.entity.Song;
+import org.example.repo.AlbumRepositoryImpl;
+import org.example.repo.AlbumRow;
+import org.example.repo.ArtistRepositoryImpl;
+import org.example.repo.ArtistRow;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.CatalogCache;
+import org.example.repo.PlaylistRepositoryImpl;
+import org.example.repo.SongRepositoryImpl;
+import org.example.repo.SongRow;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CatalogCache} on an H2 database with the second-level and
+ * query cache enabled.
+ */
+@DisplayName("Catalog Cache Tests")
+public class CatalogCacheTest {
+
+    private EntityManagerFactory emf;
+    private CatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> properties = new HashMap<>(Map.of(
+            "hibernate.hbm2ddl.auto", "create-drop",
+            "hibernate.dialect", "org.hibernate.dialect.H2Dialect"
+        ));
+        properties.putAll(CatalogCache.PROPERTIES);
+        emf = EntityManagerFactoryProvider.create("jdbc:h2:mem:cachedb;DB_CLOSE_DELAY=-1", "sa", "", properties);
+        cache = new CatalogCache(emf);
+        new BulkCatalogWriter(emf).write(TestCatalog.dtos(1, 2, 3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        emf.close();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated navigation from the cache")
+    void finders_shouldServeRepeatedNavigationFromCache() {
+        // Given
+        AlbumRepositoryImpl albumRepo = new AlbumRepositoryImpl(emf);
+        SongRepositoryImpl songRepo = new SongRepositoryImpl(emf);
+        ArtistRow artist = new ArtistRepositoryImpl(emf).findRows().getFirst();
+        AlbumRow album = albumRepo.findRowsByArtist(artist.id()).getFirst();
+        songRepo.findRowsByAlbum(album.id());
+
+        // When
+        List<AlbumRow> albums = albumRepo.findRowsByArtist(artist.id());
+        List<SongRow> songs = songRepo.findRowsByAlbum(album.id());
+
+        // Then
+        assertThat(albums).hasSize(2);
+        assertThat(songs).hasSize(3);
+        CatalogCache.RegionStats queries = regionStats(CatalogCache.CATALOG_QUERIES);
+        assertThat(queries.hits()).isEqualTo(2);
+        assertThat(queries.misses()).isEqualTo(2);
+        assertThat(queries.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should reload a cached playlist after songs are added")
+    void addSong_shouldEvictCachedPlaylist() {
+        // Given
+        PlaylistRepositoryImpl playlistRepo = new PlaylistRepositoryImpl(emf);
+        Playlist playlist = playlistRepo.createPlaylist("Mix");
+        assertThat(playlistRepo.findById(playlist.getId()).getSongs()).isEmpty();
+        Song song = new SongRepositoryImpl(emf).findAll().getFirst();
+
+        // When
+        playlistRepo.addSong(playlist, song);
+
+        // Then
+        assertThat(playlistRepo.findById(playlist.getId()).getSongs()).containsExactly(song);
+    }
+
+    @Test
+    @DisplayName("Should reload a playlist in one query after its songs left the entity region")
+    void findById_shouldNotLoadEvictedSongsOneByOne() {
+        // Given
+        PlaylistRepositoryImpl playlistRepo = new PlaylistRepositoryImpl(emf);
+        Playlist playlist = playlistRepo.createPlaylist("Mix");
+        List<Song> songs = new SongRepositoryImpl(emf).findAll();
+        playlistRepo.addSongs(playlist, songs);
+        playlistRepo.findById(playlist.getId());
+        SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(Song.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        long statements = statistics.getPrepareStatementCount();
+
+        // When
+        Playlist reloaded = playlistRepo.findById(playlist.getId());
+
+        // Then
+        assertThat(reloaded.getSongs()).containsExactlyInAnyOrderElementsOf(songs);
+        assertThat(statistics.getPrepareStatementCount() - statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop cached query results when new rows are written")
+    void write_shouldEvictCatalogQueries() {
+        // Given
+        AlbumRepositoryImpl albumRepo = new AlbumRepositoryImpl(emf);
+        SongRepositoryImpl songRepo = new SongRepositoryImpl(emf);
+        Album album = albumRepo.findAll().getFirst();
+        int before = songRepo.findRowsByAlbum(album.getId()).size();
+        ItunesDTO template = TestCatalog.dtos(1, 2, 3).getFirst();
+
+        // When
+        new BulkCatalogWriter(emf).write(List.of(TestCatalog.dto(template.artistId(), album.getId(), 42L, template.artistName())));
+
+        // Then
+        assertThat(songRepo.findRowsByAlbum(album.getId())).hasSize(before + 1);
+    }
+
+    private CatalogCache.RegionStats regionStats(String region) {
+        return cache.stats().stream()
+            .filter(stats -> stats.region().equals(region))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.BulkCatalogWriter.UpsertResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CatalogSync} against a local {@link ItunesStubServer}.
+ */
+@DisplayName("Catalog Sync Tests")
+public class CatalogSyncTest extends RepoTest {
+
+    private ItunesStubServer stub;
+    private CatalogSync sync;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = ItunesStubServer.start().withResults("geese", List.of(
+            TestCatalog.dto(5L, 55L, 551L, "Geese"),
+            TestCatalog.dto(5L, 55L, 552L, "Geese"),
+            TestCatalog.dto(5L, 56L, 561L, "Geese")));
+        sync = new CatalogSync(new ItunesApiClient(stub.searchUri(), null, 20),
+            new BulkCatalogWriter(TestPersistenceManager.get()), List.of("geese"), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void stopStub() {
+        sync.close();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Should insert new catalog rows and skip them on the next sync")
+    void syncOnce_shouldOnlyWriteChanges() {
+        // When
+        UpsertResult first = sync.syncOnce();
+        UpsertResult second = sync.syncOnce();
+
+        // Then
+        assertThat(first).isEqualTo(new UpsertResult(1 + 2 + 3, 0, 0));
+        assertThat(second).isEqualTo(new UpsertResult(0, 0, 1 + 2 + 3));
+        assertThat(second.changed()).isFalse();
+        assertThat(songRepo.count()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("Should apply remote changes to existing rows")
+    void syncOnce_shouldUpdateChangedRows() {
+        // Given
+        sync.syncOnce();
+        stub.withResults("geese", List.of(
+            new ItunesDTO(5L, 55L, 551L, "Renamed", "Geese", "Album 55", "SWE", "Rock",
+                LocalDate.of(2000, 1, 1), 10L, 180_000L, null, ""),
+            TestCatalog.dto(5L, 55L, 552L, "Geese"),
+            TestCatalog.dto(5L, 56L, 561L, "Geese"),
+            TestCatalog.dto(5L, 56L, 562L, "Geese")));
+
+        // When
+        UpsertResult result = sync.syncOnce();
+
+        // Then
+        assertThat(result).isEqualTo(new UpsertResult(1, 1, 5));
+        assertThat(songRepo.count()).isEqualTo(9L);
+        assertThat(songRepo.findByIds(List.of(551L)).get(551L).getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    @DisplayName("Should pick up remote changes through a revalidating response cache")
+    void syncOnce_shouldRevalidateCachedResponses(@TempDir Path cacheDir) {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir, Duration.ZERO,
+            ItunesResponseCache.DEFAULT_MAX_BYTES);
+        try (CatalogSync cached = new CatalogSync(new ItunesApiClient(stub.searchUri(), cache, 20),
+            new BulkCatalogWriter(TestPersistenceManager.get()), List.of("geese"), Duration.ofHours(1))) {
+            cached.syncOnce();
+            stub.withResults("geese", List.of(
+                new ItunesDTO(5L, 55L, 551L, "Renamed", "Geese", "Album 55", "SWE", "Rock",
+                    LocalDate.of(2000, 1, 1), 10L, 180_000L, null, ""),
+                TestCatalog.dto(5L, 55L, 552L, "Geese"),
+                TestCatalog.dto(5L, 56L, 561L, "Geese")));
+
+            // When
+            UpsertResult result = cached.syncOnce();
+
+            // Then
+            assertThat(result).isEqualTo(new UpsertResult(0, 1, 5));
+            assertThat(songRepo.findByIds(List.of(551L)).get(551L).getName()).isEqualTo("Renamed");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example;
+
+import org.example.cover.CoverRenditions;
+import org.example.cover.FileCoverStore;
+import org.example.repo.CoverBlobMigration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CoverBlobMigration}.
+ */
+@DisplayName("Cover Blob Migration Tests")
+public class CoverBlobMigrationTest extends RepoTest {
+
+    @TempDir
+    Path coverDir;
+
+    @Test
+    @DisplayName("Should do nothing when the legacy cover column does not exist")
+    void migrate_shouldSkipWithoutLegacyColumn() {
+        // Given
+        CoverBlobMigration migration = new CoverBlobMigration(TestPersistenceManager.get(), new FileCoverStore(coverDir));
+
+        // When, Then
+        assertThat(migration.migrate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move legacy cover blobs into the cover store and drop the column")
+    void migrate_shouldMoveBlobsToStore() throws Exception {
+        // Given
+        var emf = TestPersistenceManager.get();
+        emf.runInTransaction(em -> {
+            em.createNativeQuery("alter table Album add column cover blob").executeUpdate();
+            em.createNativeQuery("update Album set cover = X'010203'").executeUpdate();
+        });
+        FileCoverStore store = new FileCoverStore(coverDir);
+
+        // When
+        int migrated = new CoverBlobMigration(emf, store, 1).migrate();
+
+        // Then
+        assertThat(migrated).isEqualTo(2);
+        String hash1 = albumRepo.findByIds(List.of(11L)).get(11L).getCoverHash();
+        String hash2 = albumRepo.findByIds(List.of(22L)).get(22L).getCoverHash();
+        assertThat(hash1).isNotNull().isEqualTo(hash2);
+        assertThat(store.read(hash1)).hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(1, 2, 3));
+        assertThat(emf.callInTransaction(em -> em.createNativeQuery(
+            "select count(*) from information_schema.columns where lower(table_name) = 'album' and lower(column_name) = 'cover'")
+            .getSingleResult()))
+            .isEqualTo(0L);
+        assertThat(new CoverBlobMigration(emf, store).migrate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should store only the original and leave renditions to first display")
+    void migrate_shouldNotGenerateRenditions() throws Exception {
+        // Given
+        var emf = TestPersistenceManager.get();
+        ByteArrayOutputStream cover = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(600, 600, BufferedImage.TYPE_INT_RGB), "jpg", cover);
+        emf.runInTransaction(em -> {
+            em.createNativeQuery("alter table Album add column cover blob").executeUpdate();
+            em.createNativeQuery("update Album set cover = ?1 where album_id = 11")
+                .setParameter(1, cover.toByteArray())
+                .executeUpdate();
+        });
+        FileCoverStore store = new FileCoverStore(coverDir);
+
+        // When
+        int migrated = new CoverBlobMigration(emf, store).migrate();
+
+        // Then
+        assertThat(migrated).isEqualTo(1);
+        String hash = albumRepo.findByIds(List.of(11L)).get(11L).getCoverHash();
+        assertThat(store.read(hash)).hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(cover.toByteArray()));
+        for (int size : CoverRenditions.SIZES) {
+            assertThat(store.readRendition(hash, size)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example;
+
+import org.example.cover.CoverRenditions;
+import org.example.cover.FileCoverStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CoverRenditions}.
+ */
+@DisplayName("Cover Renditions Tests")
+public class CoverRenditionsTest {
+
+    @TempDir
+    Path coverDir;
+
+    @Test
+    @DisplayName("Should select the smallest rendition that covers the display size")
+    void renditionFor_shouldPickSmallestSufficientSize() {
+        assertThat(CoverRenditions.renditionFor(20)).hasValue(32);
+        assertThat(CoverRenditions.renditionFor(70)).hasValue(70);
+        assertThat(CoverRenditions.renditionFor(71)).hasValue(100);
+        assertThat(CoverRenditions.renditionFor(300)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should store scaled renditions smaller than the original")
+    void storeAll_shouldStoreScaledRenditions() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+        byte[] original = jpeg(600, 300);
+        String hash = store.put(original);
+
+        // When
+        int stored = CoverRenditions.storeAll(store, hash, original);
+
+        // Then
+        assertThat(stored).isEqualTo(3);
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(store.readRendition(hash, 32).orElseThrow()));
+        assertThat(small.getWidth()).isEqualTo(32);
+        assertThat(small.getHeight()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Should not upscale originals smaller than a rendition")
+    void storeAll_shouldSkipLargerRenditions() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+        byte[] original = jpeg(60, 60);
+        String hash = store.put(original);
+
+        // When
+        int stored = CoverRenditions.storeAll(store, hash, original);
+
+        // Then
+        assertThat(stored).isEqualTo(1);
+        assertThat(store.readRendition(hash, 32)).isPresent();
+        assertThat(store.readRendition(hash, 70)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should generate a missing rendition on first display and reuse it afterwards")
+    void forDisplay_shouldGenerateRenditionOnce() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+        String hash = store.put(jpeg(600, 600));
+
+        // When
+        byte[] first = CoverRenditions.forDisplay(store, hash, 70).orElseThrow();
+        byte[] second = CoverRenditions.forDisplay(store, hash, 70).orElseThrow();
+
+        // Then
+        assertThat(store.readRendition(hash, 70)).hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(first));
+        assertThat(second).containsExactly(first);
+        assertThat(ImageIO.read(new ByteArrayInputStream(first)).getWidth()).isEqualTo(70);
+        assertThat(CoverRenditions.forDisplay(store, hash, 300)).hasValueSatisfying(bytes -> assertThat(bytes).hasSizeGreaterThan(first.length));
+        assertThat(CoverRenditions.forDisplay(store, "0".repeat(64), 70)).isEmpty();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+}
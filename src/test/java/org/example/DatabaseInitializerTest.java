@@ -0,0 +1,123 @@
+package org.example;
+
+import org.example.entity.Album;
+import org.example.entity.Artist;
+import org.example.entity.IngestCheckpoint;
+import org.example.entity.Playlist;
+import org.example.entity.Song;
+import org.example.repo.IngestCheckpointRepository;
+import org.example.repo.IngestCheckpointRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for checkpointed ingest in {@link DatabaseInitializer} against a
+ * local {@link ItunesStubServer}.
+ */
+@DisplayName("Database Initializer Tests")
+public class DatabaseInitializerTest extends RepoTest {
+
+    private ItunesStubServer stub;
+    private IngestCheckpointRepository checkpoints;
+    private DatabaseInitializer initializer;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = ItunesStubServer.start()
+            .withResults("geese", List.of(
+                TestCatalog.dto(5L, 55L, 551L, "Geese"),
+                TestCatalog.dto(5L, 55L, 552L, "Geese"),
+                TestCatalog.dto(5L, 56L, 561L, "Geese")))
+            .withResults("ghost", List.of(
+                TestCatalog.dto(6L, 66L, 661L, "Ghost")));
+        checkpoints = new IngestCheckpointRepositoryImpl(TestPersistenceManager.get());
+        initializer = new DatabaseInitializer(new ItunesApiClient(stub.searchUri(), null, 2),
+            songRepo, albumRepo, artistRepo, playlistRepo, checkpoints, null, List.of("geese", "ghost"), 2);
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Should checkpoint completed terms and skip them on the next run")
+    void init_shouldSkipCompletedTerms() {
+        // Given
+        initializer.init();
+        int requests = stub.searchRequests();
+
+        // When
+        initializer.init();
+
+        // Then
+        Map<String, IngestCheckpoint> recorded = checkpoints.findAll();
+        assertThat(recorded).containsOnlyKeys("geese", "ghost");
+        assertThat(recorded.values()).allMatch(IngestCheckpoint::isCompleted);
+        assertThat(recorded.get("geese").getPagesDone()).isEqualTo(2);
+        assertThat(recorded.get("geese").getRowsDone()).isEqualTo(3L);
+        assertThat(stub.searchRequests()).isEqualTo(requests);
+        assertThat(songRepo.count()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("Should resume an interrupted term after its last persisted page")
+    void init_shouldResumeAfterLastPersistedPage() {
+        // Given
+        checkpoints.recordPage("geese", 2);
+
+        // When
+        initializer.init();
+
+        // Then
+        assertThat(songRepo.findByIds(List.of(551L, 552L, 561L))).containsOnlyKeys(561L);
+        assertThat(checkpoints.findAll().get("geese"))
+            .satisfies(c -> assertThat(c.isCompleted()).isTrue())
+            .satisfies(c -> assertThat(c.getPagesDone()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should add only the songs ingested during the run to an existing library")
+    void init_shouldAddIngestedSongsToLibrary() {
+        // Given
+        Playlist library = playlistRepo.createPlaylist("Library");
+        playlistRepo.addSong(library, testSong1);
+
+        // When
+        initializer.init();
+
+        // Then
+        assertThat(playlistRepo.findById(library.getId()).getSongs())
+            .extracting(Song::getId)
+            .containsExactlyInAnyOrder(111L, 551L, 552L, 561L, 661L);
+    }
+
+    @Test
+    @DisplayName("Should add the existing songs of replayed pages to the library when resuming")
+    void init_shouldAddReplayedSongsToLibrary() {
+        // Given
+        Playlist library = playlistRepo.createPlaylist("Library");
+        playlistRepo.addSong(library, testSong1);
+        Artist geese = new Artist(5L, "Geese", "");
+        Album album = new Album(55L, "Geese", "", 2025, 2L, null, geese);
+        artistRepo.save(geese);
+        albumRepo.save(album);
+        songRepo.save(new Song(551L, "Geese", 180000L, "", album));
+        checkpoints.recordPage("geese", 2);
+
+        // When
+        initializer.init();
+
+        // Then
+        assertThat(playlistRepo.findById(library.getId()).getSongs())
+            .extracting(Song::getId)
+            .containsExactlyInAnyOrder(111L, 551L, 561L, 661L);
+    }
+}
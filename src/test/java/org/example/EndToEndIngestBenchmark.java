@@ -0,0 +1,115 @@
+package org.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.cover.FileCoverStore;
+import org.example.repo.AlbumRepositoryImpl;
+import org.example.repo.ArtistRepositoryImpl;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.IngestCheckpointRepositoryImpl;
+import org.example.repo.PlaylistRepositoryImpl;
+import org.example.repo.SongRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link DatabaseInitializer} end-to-end against an
+ * {@link ItunesStubServer} and H2, followed by the
+ * {@link AlbumCoverPipeline}, and reports ingest throughput, artwork
+ * throughput and the p99 time to page through a search term.
+ *
+ * <p>The stub adds latency, padded results and periodic errors so that
+ * retries and backoff are part of the measurement. Run with
+ * {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@DisplayName("End-to-End Ingest Benchmark")
+public class EndToEndIngestBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(EndToEndIngestBenchmark.class);
+
+    private static final int TERMS = 40;
+    private static final int ALBUMS_PER_TERM = 10;
+    private static final int TRACKS_PER_ALBUM = 12;
+    private static final int ARTWORK_BYTES = 64 * 1024;
+
+    private ItunesStubServer stub;
+    private final List<String> terms = new ArrayList<>();
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = ItunesStubServer.start()
+            .withSearchLatency(Duration.ofMillis(20))
+            .withArtworkLatency(Duration.ofMillis(10))
+            .withResultPadding(512)
+            .withSearchErrors(50, 503)
+            .withArtworkErrors(25);
+        for (int i = 1; i <= TERMS; i++) {
+            String term = "artist " + i;
+            stub.withSyntheticCatalog(term, i, ALBUMS_PER_TERM, TRACKS_PER_ALBUM, ARTWORK_BYTES);
+            terms.add(term);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+        TestPersistenceManager.close();
+    }
+
+    @Test
+    @DisplayName("Ingest tracks/second, artwork MB/second and p99 per-term latency")
+    void endToEndIngest(@TempDir Path coverDir) {
+        // Given
+        EntityManagerFactory emf = TestPersistenceManager.get();
+        SongRepositoryImpl songRepo = new SongRepositoryImpl(emf);
+        AlbumRepositoryImpl albumRepo = new AlbumRepositoryImpl(emf);
+        ItunesApiClient apiClient = new ItunesApiClient(stub.searchUri(), null, 50, 0,
+            new AdaptiveConcurrencyLimiter(), ItunesApiClient.DEFAULT_MAX_ATTEMPTS, Duration.ofMillis(10));
+        DatabaseInitializer initializer = new DatabaseInitializer(apiClient, songRepo, albumRepo,
+            new ArtistRepositoryImpl(emf), new PlaylistRepositoryImpl(emf), new IngestCheckpointRepositoryImpl(emf),
+            new BulkCatalogWriter(emf), terms, DatabaseInitializer.DEFAULT_MAX_CONCURRENT_FETCHES);
+        AlbumCoverPipeline covers = new AlbumCoverPipeline(albumRepo, new FileCoverStore(coverDir),
+            HttpClient.newHttpClient(), AlbumCoverPipeline.DEFAULT_PARALLELISM, AlbumCoverPipeline.DEFAULT_TIMEOUT,
+            AlbumCoverPipeline.DEFAULT_MAX_ATTEMPTS, Duration.ofMillis(10));
+
+        // When
+        long ingestStart = System.nanoTime();
+        initializer.init();
+        double ingestSeconds = (System.nanoTime() - ingestStart) / 1_000_000_000.0;
+
+        long coverStart = System.nanoTime();
+        int attached = covers.run((albumId, hash) -> { });
+        double coverSeconds = (System.nanoTime() - coverStart) / 1_000_000_000.0;
+
+        // Then
+        long tracks = songRepo.count();
+        assertThat(tracks).isEqualTo((long) TERMS * ALBUMS_PER_TERM * TRACKS_PER_ALBUM);
+        assertThat(attached).isEqualTo(TERMS * ALBUMS_PER_TERM);
+
+        List<Duration> latencies = new ArrayList<>(stub.termLatencies().values());
+        latencies.sort(null);
+        Duration p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+        ItunesApiClient.Metrics metrics = apiClient.metrics();
+
+        logger.info("endToEndIngest: {} tracks/s ({} tracks in {} s)",
+            String.format("%.0f", tracks / ingestSeconds), tracks, String.format("%.2f", ingestSeconds));
+        logger.info("endToEndIngest: {} artwork MB/s ({} covers in {} s)",
+            String.format("%.1f", stub.artworkBytesServed() / (1024.0 * 1024.0) / coverSeconds), attached,
+            String.format("%.2f", coverSeconds));
+        logger.info("endToEndIngest: p99 per-term latency {} ms over {} terms, {} retries, final limit {}",
+            p99.toMillis(), latencies.size(), metrics.retries(), metrics.limit());
+    }
+}
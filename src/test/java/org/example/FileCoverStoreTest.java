@@ -0,0 +1,90 @@
+package org.example;
+
+import org.example.cover.FileCoverStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link FileCoverStore}.
+ */
+@DisplayName("File Cover Store Tests")
+public class FileCoverStoreTest {
+
+    @TempDir
+    Path coverDir;
+
+    @Test
+    @DisplayName("Should read back a stored cover by its hash")
+    void read_shouldReturnStoredCover() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+        byte[] cover = {1, 2, 3, 4};
+
+        // When
+        String hash = store.put(cover);
+
+        // Then
+        assertThat(hash).hasSize(64);
+        assertThat(store.contains(hash)).isTrue();
+        assertThat(store.read(hash)).hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(cover));
+    }
+
+    @Test
+    @DisplayName("Should store identical covers only once")
+    void put_shouldDeduplicateIdenticalCovers() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+
+        // When
+        String first = store.put(new byte[]{5, 6, 7});
+        String second = store.put(new byte[]{5, 6, 7});
+        String other = store.put(new byte[]{8});
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        try (Stream<Path> files = Files.walk(coverDir)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should store a streamed cover under the same hash as its bytes")
+    void put_shouldStoreStreamedCoverUnchanged() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+        byte[] cover = {9, 8, 7, 6, 5};
+
+        // When
+        String streamed = store.put(new ByteArrayInputStream(cover));
+        String direct = store.put(cover);
+
+        // Then
+        assertThat(streamed).isEqualTo(direct);
+        assertThat(store.read(streamed)).hasValueSatisfying(bytes -> assertThat(bytes).containsExactly(cover));
+        try (Stream<Path> files = Files.walk(coverDir)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown covers and reject malformed hashes")
+    void read_shouldHandleUnknownAndInvalidHashes() throws Exception {
+        // Given
+        FileCoverStore store = new FileCoverStore(coverDir);
+
+        // Then
+        assertThat(store.read("0".repeat(64))).isEmpty();
+        assertThatThrownBy(() -> store.read("../secret"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example;
+
+import org.example.cover.ImageFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ImageFormat}.
+ */
+@DisplayName("Image Format Tests")
+public class ImageFormatTest {
+
+    @Test
+    @DisplayName("Should recognise supported formats by their header")
+    void sniff_shouldRecogniseSupportedFormats() {
+        assertThat(ImageFormat.sniff(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0})).hasValue(ImageFormat.JPEG);
+        assertThat(ImageFormat.sniff(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})).hasValue(ImageFormat.PNG);
+        assertThat(ImageFormat.sniff("GIF89a".getBytes())).hasValue(ImageFormat.GIF);
+        assertThat(ImageFormat.sniff("<html>".getBytes())).isEmpty();
+        assertThat(ImageFormat.sniff(new byte[]{(byte) 0xFF})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave the stream at its start after sniffing")
+    void sniff_shouldNotConsumeStream() throws Exception {
+        // Given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13};
+        BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(png));
+
+        // When
+        Optional<ImageFormat> format = ImageFormat.sniff(in);
+
+        // Then
+        assertThat(format).hasValue(ImageFormat.PNG);
+        assertThat(in.readAllBytes()).containsExactly(png);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example;
+
+import org.example.repo.AlbumRepositoryImpl;
+import org.example.repo.ArtistRepositoryImpl;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.IngestResolutionCache;
+import org.example.repo.PlaylistRepositoryImpl;
+import org.example.repo.SongRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares catalog ingest throughput of the per-entity repository path
+ * against the {@link BulkCatalogWriter} path on H2.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@DisplayName("Ingest Benchmark")
+public class IngestBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(IngestBenchmark.class);
+
+    private static final List<ItunesDTO> CATALOG = TestCatalog.dtos(20, 5, 10);
+    private static final int ROWS = 20 + 20 * 5 + 20 * 5 * 10;
+
+    @AfterEach
+    void tearDown() {
+        TestPersistenceManager.close();
+    }
+
+    @Test
+    @DisplayName("Per-entity ingest rows/second")
+    void perEntityIngest() {
+        double rowsPerSecond = ingest(null);
+        logger.info("perEntityIngest: {} rows/s", String.format("%.0f", rowsPerSecond));
+    }
+
+    @Test
+    @DisplayName("Bulk ingest rows/second")
+    void bulkIngest() {
+        double rowsPerSecond = ingest(new BulkCatalogWriter(TestPersistenceManager.get()));
+        logger.info("bulkIngest: {} rows/s", String.format("%.0f", rowsPerSecond));
+    }
+
+    /**
+     * Persists the synthetic catalog one artist at a time, mirroring how
+     * search results arrive during initialization.
+     *
+     * @param bulkWriter bulk writer to use, or {@code null} for the per-entity path
+     * @return inserted rows per second
+     */
+    private double ingest(BulkCatalogWriter bulkWriter) {
+        var emf = TestPersistenceManager.get();
+        SongRepositoryImpl songRepo = new SongRepositoryImpl(emf);
+        DatabaseInitializer initializer = new DatabaseInitializer(null, songRepo,
+            new AlbumRepositoryImpl(emf), new ArtistRepositoryImpl(emf), new PlaylistRepositoryImpl(emf),
+            bulkWriter, 1);
+
+        IngestResolutionCache resolved = new IngestResolutionCache();
+        long start = System.nanoTime();
+        for (int i = 0; i < CATALOG.size(); i += 50) {
+            initializer.persist(CATALOG.subList(i, i + 50), resolved);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(songRepo.count()).isEqualTo(1000L);
+        return ROWS / (elapsed / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,155 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ItunesApiClient} against a local {@link ItunesStubServer}.
+ */
+@DisplayName("iTunes API Client Tests")
+public class ItunesApiClientTest {
+
+    private ItunesStubServer stub;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        List<ItunesDTO> geese = new ArrayList<>();
+        for (long id = 1; id <= 45; id++) {
+            geese.add(TestCatalog.dto(7L, 70L, id, "Geese"));
+        }
+        stub = ItunesStubServer.start().withResults("geese", geese);
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Should page through the complete catalog of an artist")
+    void searchPages_shouldReturnAllPages() {
+        // Given
+        ItunesApiClient client = new ItunesApiClient(stub.searchUri(), null, 20);
+
+        // When
+        List<List<ItunesDTO>> pages = client.searchPages("geese").toList();
+
+        // Then
+        assertThat(pages).extracting(List::size).containsExactly(20, 20, 5);
+        assertThat(stub.searchRequests()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should only request pages the consumer pulls")
+    void searchPages_shouldFetchLazily() {
+        // Given
+        ItunesApiClient client = new ItunesApiClient(stub.searchUri(), null, 20);
+
+        // When
+        List<ItunesDTO> firstPage = client.searchPages("geese").findFirst().orElseThrow();
+
+        // Then
+        assertThat(firstPage).hasSize(20);
+        assertThat(stub.searchRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop results from other artists")
+    void searchSongs_shouldFilterByArtistName() throws Exception {
+        // Given
+        stub.withResults("ghost", List.of(
+            TestCatalog.dto(1L, 10L, 100L, "Ghost"),
+            TestCatalog.dto(2L, 20L, 200L, "Ghostface Killah")));
+        ItunesApiClient client = new ItunesApiClient(stub.searchUri(), null, 20);
+
+        // When
+        List<ItunesDTO> songs = client.searchSongs("ghost");
+
+        // Then
+        assertThat(songs).extracting(ItunesDTO::trackId).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated searches from the response cache")
+    void searchPages_shouldUseCache(@TempDir Path cacheDir) {
+        // Given
+        ItunesApiClient client = new ItunesApiClient(stub.searchUri(), new ItunesResponseCache(cacheDir), 20);
+        client.searchPages("geese").toList();
+
+        // When
+        List<List<ItunesDTO>> pages = client.searchPages("geese").toList();
+
+        // Then
+        assertThat(pages).hasSize(3);
+        assertThat(stub.searchRequests()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should retry throttled requests and lower the concurrency limit")
+    void searchPages_shouldRetryThrottledRequests() {
+        // Given
+        stub.withThrottling(2, 429);
+        ItunesApiClient client = throttledClient(4);
+
+        // When
+        List<List<ItunesDTO>> pages = client.searchPages("geese").toList();
+
+        // Then
+        assertThat(pages).extracting(List::size).containsExactly(20, 20, 5);
+        assertThat(stub.searchRequests()).isEqualTo(5);
+        ItunesApiClient.Metrics metrics = client.metrics();
+        assertThat(metrics.throttled()).isEqualTo(2);
+        assertThat(metrics.retries()).isEqualTo(2);
+        assertThat(metrics.limit()).isLessThan(AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT);
+        assertThat(metrics.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail once every attempt was throttled")
+    void searchSongs_shouldFailWhenThrottlingPersists() {
+        // Given
+        stub.withThrottling(10, 503);
+        ItunesApiClient client = throttledClient(2);
+
+        // Then
+        assertThatThrownBy(() -> client.searchSongs("geese"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("503");
+        assertThat(stub.searchRequests()).isEqualTo(2);
+        assertThat(client.metrics().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should lower the concurrency limit on server errors")
+    void searchSongs_shouldCountServerErrorsAsDropped() {
+        // Given
+        stub.withSearchErrors(1, 500);
+        ItunesApiClient client = throttledClient(2);
+
+        // Then
+        assertThatThrownBy(() -> client.searchSongs("geese"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("500");
+        ItunesApiClient.Metrics metrics = client.metrics();
+        assertThat(metrics.dropped()).isEqualTo(1);
+        assertThat(metrics.throttled()).isZero();
+        assertThat(metrics.limit()).isLessThan(AdaptiveConcurrencyLimiter.DEFAULT_INITIAL_LIMIT);
+        assertThat(metrics.inFlight()).isZero();
+    }
+
+    private ItunesApiClient throttledClient(int maxAttempts) {
+        return new ItunesApiClient(stub.searchUri(), null, 20, 0,
+            new AdaptiveConcurrencyLimiter(), maxAttempts, Duration.ofMillis(1));
+    }
+}
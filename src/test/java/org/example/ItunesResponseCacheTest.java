@@ -0,0 +1,136 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ItunesResponseCache}.
+ */
+@DisplayName("iTunes Response Cache Tests")
+public class ItunesResponseCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    @DisplayName("Should return stored body and validators on lookup")
+    void lookup_shouldReturnStoredEntry() throws Exception {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir);
+        cache.store("ghost|limit=20", body("{\"results\":[]}"), "\"v1\"", "Mon, 01 Jan 2024 00:00:00 GMT");
+
+        // When
+        Optional<ItunesResponseCache.Entry> entry = cache.lookup("ghost|limit=20");
+
+        // Then
+        assertThat(entry).isPresent();
+        assertThat(new String(entry.get().body(), StandardCharsets.UTF_8)).isEqualTo("{\"results\":[]}");
+        assertThat(entry.get().etag()).isEqualTo("\"v1\"");
+        assertThat(entry.get().lastModified()).isEqualTo("Mon, 01 Jan 2024 00:00:00 GMT");
+        assertThat(cache.isFresh(entry.get())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report entries older than the TTL as stale")
+    void isFresh_shouldBeFalseAfterTtl() throws Exception {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir, Duration.ZERO, 1024);
+        ItunesResponseCache.Entry entry = cache.store("ghost", body("{}"), null, null);
+
+        // When, Then
+        assertThat(cache.isFresh(entry)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return empty when key is not cached")
+    void lookup_shouldReturnEmptyForUnknownKey() {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir);
+
+        // When, Then
+        assertThat(cache.lookup("refused")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries when size limit is exceeded")
+    void store_shouldEvictLeastRecentlyUsed() throws Exception {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir, Duration.ofDays(1), 25);
+        cache.store("old", body("0123456789"), null, null);
+        Thread.sleep(20);
+        cache.store("recent", body("0123456789"), null, null);
+        Thread.sleep(20);
+        cache.lookup("old"); // touching makes "recent" the least recently used
+        Thread.sleep(20);
+
+        // When
+        cache.store("new", body("0123456789"), null, null);
+
+        // Then
+        assertThat(cache.lookup("old")).isPresent();
+        assertThat(cache.lookup("new")).isPresent();
+        assertThat(cache.lookup("recent")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the body of a looked up entry readable after it is evicted")
+    void lookup_shouldSurviveEviction() throws Exception {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir, Duration.ofDays(1), 15);
+        cache.store("old", body("0123456789"), null, null);
+        ItunesResponseCache.Entry entry = cache.lookup("old").orElseThrow();
+
+        // When
+        cache.store("new", body("0123456789"), null, null);
+
+        // Then
+        assertThat(cache.lookup("old")).isEmpty();
+        assertThat(new String(entry.body(), StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("Should count a replaced entry only once towards the size limit")
+    void store_shouldNotCountReplacedEntryTwice() throws Exception {
+        // Given
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir, Duration.ofDays(1), 25);
+        cache.store("old", body("0123456789"), null, null);
+        cache.store("recent", body("0123456789"), null, null);
+
+        // When
+        cache.store("recent", body("9876543210"), null, null);
+
+        // Then
+        assertThat(cache.lookup("old")).isPresent();
+        assertThat(cache.lookup("recent")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should account for entries stored by an earlier instance")
+    void store_shouldEvictEntriesOfEarlierInstance() throws Exception {
+        // Given
+        new ItunesResponseCache(cacheDir, Duration.ofDays(1), 25).store("old", body("0123456789"), null, null);
+        ItunesResponseCache cache = new ItunesResponseCache(cacheDir, Duration.ofDays(1), 25);
+        cache.store("recent", body("0123456789"), null, null);
+
+        // When
+        cache.store("new", body("0123456789"), null, null);
+
+        // Then
+        assertThat(cache.lookup("old")).isEmpty();
+        assertThat(cache.lookup("recent")).isPresent();
+        assertThat(cache.lookup("new")).isPresent();
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,438 @@
+package org.example;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local stand-in for the iTunes Search API built on {@link HttpServer}.
+ *
+ * <p>Serves {@code /search} with {@code term}, {@code offset} and
+ * {@code limit} parameters over an in-memory catalog registered per search
+ * term. Responses are gzip-compressed when the client accepts it.</p>
+ *
+ * <p>Artwork registered with {@link #withArtwork(String, byte[], int)} is
+ * served below {@code /artwork/}, optionally after a number of simulated
+ * {@code 503} failures.</p>
+ *
+ * <p>For benchmarks, {@link #withSyntheticCatalog(String, long, int, int, int)}
+ * generates a catalog with artwork of a given size. Response latency,
+ * result padding and periodic errors can be configured to approximate the
+ * live API, and the time each search term took to page through is
+ * recorded.</p>
+ */
+public final class ItunesStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<String, List<ItunesDTO>> catalog = new ConcurrentHashMap<>();
+    private final AtomicInteger searchRequests = new AtomicInteger();
+    private final AtomicInteger throttledSearches = new AtomicInteger();
+    private volatile int throttleStatus = 429;
+    private volatile Duration searchLatency = Duration.ZERO;
+    private volatile Duration artworkLatency = Duration.ZERO;
+    private volatile int resultPadding;
+    private volatile int searchErrorPeriod;
+    private volatile int searchErrorStatus = 500;
+    private volatile int artworkErrorPeriod;
+    private final AtomicInteger artworkRequests = new AtomicInteger();
+    private final AtomicLong artworkBytesServed = new AtomicLong();
+    private final Map<String, long[]> termTimings = new ConcurrentHashMap<>();
+    private final Map<String, Artwork> artwork = new ConcurrentHashMap<>();
+
+    /**
+     * Artwork served by the stub.
+     *
+     * @param image    response body
+     * @param failures number of requests answered with {@code 503} before the image is served
+     * @param requests number of requests received so far
+     */
+    private record Artwork(byte[] image, AtomicInteger failures, AtomicInteger requests) {
+    }
+
+    private ItunesStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/search", this::handleSearch);
+        server.createContext("/artwork/", this::handleArtwork);
+    }
+
+    /**
+     * Starts a stub server on an ephemeral loopback port.
+     *
+     * @return the running server
+     * @throws IOException if the server cannot be bound
+     */
+    public static ItunesStubServer start() throws IOException {
+        ItunesStubServer stub = new ItunesStubServer();
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * Registers the results returned for a search term.
+     *
+     * @param term  search term as sent by the client, e.g. {@code "viagra+boys"}
+     * @param songs results in response order
+     * @return this server
+     */
+    public ItunesStubServer withResults(String term, List<ItunesDTO> songs) {
+        catalog.put(normalize(term), List.copyOf(songs));
+        return this;
+    }
+
+    /**
+     * Answers the next search requests with a throttling status and a
+     * {@code Retry-After: 0} header.
+     *
+     * @param requests number of search requests to throttle
+     * @param status   status code to answer with, e.g. {@code 429}
+     * @return this server
+     */
+    public ItunesStubServer withThrottling(int requests, int status) {
+        throttleStatus = status;
+        throttledSearches.set(requests);
+        return this;
+    }
+
+    /**
+     * Delays every search response, e.g. to keep requests in flight long
+     * enough to overlap.
+     *
+     * @param latency delay before each search response
+     * @return this server
+     */
+    public ItunesStubServer withSearchLatency(Duration latency) {
+        searchLatency = latency;
+        return this;
+    }
+
+    /**
+     * Delays every artwork response.
+     *
+     * @param latency delay before each artwork response
+     * @return this server
+     */
+    public ItunesStubServer withArtworkLatency(Duration latency) {
+        artworkLatency = latency;
+        return this;
+    }
+
+    /**
+     * Pads every search result with an extra field the client has to skip,
+     * making responses larger without adding results.
+     *
+     * @param bytes length of the padding per result
+     * @return this server
+     */
+    public ItunesStubServer withResultPadding(int bytes) {
+        resultPadding = bytes;
+        return this;
+    }
+
+    /**
+     * Answers every {@code period}-th search request with an error status.
+     *
+     * @param period number of requests per injected error, or {@code 0} to disable
+     * @param status status code to answer with, e.g. {@code 500}
+     * @return this server
+     */
+    public ItunesStubServer withSearchErrors(int period, int status) {
+        searchErrorStatus = status;
+        searchErrorPeriod = period;
+        return this;
+    }
+
+    /**
+     * Answers every {@code period}-th artwork request with {@code 503}.
+     *
+     * @param period number of requests per injected error, or {@code 0} to disable
+     * @return this server
+     */
+    public ItunesStubServer withArtworkErrors(int period) {
+        artworkErrorPeriod = period;
+        return this;
+    }
+
+    /**
+     * Generates the catalog of one artist whose albums have artwork served
+     * by this stub. Ids are derived from {@code artistId}, so catalogs of
+     * different artists do not collide.
+     *
+     * @param term           search term, also used as the artist name
+     * @param artistId       iTunes artist id
+     * @param albums         number of albums
+     * @param tracksPerAlbum number of tracks per album
+     * @param artworkBytes   size of each album's artwork
+     * @return this server
+     */
+    public ItunesStubServer withSyntheticCatalog(String term, long artistId, int albums, int tracksPerAlbum, int artworkBytes) {
+        List<ItunesDTO> songs = new ArrayList<>(albums * tracksPerAlbum);
+        for (int a = 0; a < albums; a++) {
+            long albumId = artistId * 1_000 + a;
+            String artworkName = albumId + ".jpg";
+            withArtwork(artworkName, syntheticJpeg(artworkBytes, albumId), 0);
+            URL artworkUrl;
+            try {
+                artworkUrl = artworkUri(artworkName).toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+            for (int t = 0; t < tracksPerAlbum; t++) {
+                long trackId = albumId * 1_000 + t;
+                songs.add(new ItunesDTO(artistId, albumId, trackId, "Track " + trackId, term, "Album " + albumId,
+                    "SWE", "Rock", LocalDate.of(2000, 1, 1), (long) tracksPerAlbum, 180_000L,
+                    artworkUrl, "https://example.com/preview/" + trackId + ".m4a"));
+            }
+        }
+        return withResults(term, songs);
+    }
+
+    /**
+     * Registers artwork served below {@code /artwork/}.
+     *
+     * @param name     file name of the artwork, e.g. {@code "cover.jpg"}
+     * @param image    response body
+     * @param failures number of requests answered with {@code 503} first
+     * @return this server
+     */
+    public ItunesStubServer withArtwork(String name, byte[] image, int failures) {
+        artwork.put(name, new Artwork(image, new AtomicInteger(failures), new AtomicInteger()));
+        return this;
+    }
+
+    /**
+     * @param name file name of registered artwork
+     * @return URI the artwork is served at
+     */
+    public URI artworkUri(String name) {
+        return baseUri().resolve("/artwork/" + name);
+    }
+
+    /**
+     * @param name file name of registered artwork
+     * @return number of requests received for the artwork
+     */
+    public int artworkRequests(String name) {
+        return artwork.get(name).requests().get();
+    }
+
+    /**
+     * @return URI of the stub search endpoint
+     */
+    public URI searchUri() {
+        return baseUri().resolve("/search");
+    }
+
+    /**
+     * @return number of search requests served so far
+     */
+    public int searchRequests() {
+        return searchRequests.get();
+    }
+
+    /**
+     * @return number of artwork bytes served so far
+     */
+    public long artworkBytesServed() {
+        return artworkBytesServed.get();
+    }
+
+    /**
+     * Returns how long each search term took to page through, from its
+     * first request arriving to its last successful response being written.
+     *
+     * @return elapsed time per normalized search term
+     */
+    public Map<String, Duration> termLatencies() {
+        Map<String, Duration> latencies = new HashMap<>();
+        termTimings.forEach((term, timing) -> {
+            synchronized (timing) {
+                // Terms that never received a successful response have no end time
+                if (timing[1] != 0) {
+                    latencies.put(term, Duration.ofNanos(timing[1] - timing[0]));
+                }
+            }
+        });
+        return latencies;
+    }
+
+    private URI baseUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/");
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        int request = searchRequests.incrementAndGet();
+        Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+        String term = normalize(params.getOrDefault("term", ""));
+        long[] timing = termTimings.computeIfAbsent(term, t -> new long[]{System.nanoTime(), 0});
+
+        if (!delay(searchLatency)) {
+            exchange.close();
+            return;
+        }
+        if (throttledSearches.getAndDecrement() > 0) {
+            exchange.getResponseHeaders().set("Retry-After", "0");
+            exchange.sendResponseHeaders(throttleStatus, -1);
+            exchange.close();
+            return;
+        }
+        int errorPeriod = searchErrorPeriod;
+        if (errorPeriod > 0 && request % errorPeriod == 0) {
+            exchange.sendResponseHeaders(searchErrorStatus, -1);
+            exchange.close();
+            return;
+        }
+
+        List<ItunesDTO> results = catalog.getOrDefault(term, List.of());
+        int offset = Integer.parseInt(params.getOrDefault("offset", "0"));
+        int limit = Integer.parseInt(params.getOrDefault("limit", "50"));
+        List<ItunesDTO> page = results.subList(Math.min(offset, results.size()), Math.min(offset + limit, results.size()));
+
+        byte[] json = mapper.writeValueAsBytes(Map.of("resultCount", page.size(), "results", padded(page)));
+        respond(exchange, 200, json);
+        synchronized (timing) {
+            timing[1] = System.nanoTime();
+        }
+    }
+
+    private List<?> padded(List<ItunesDTO> page) {
+        int padding = resultPadding;
+        if (padding == 0) {
+            return page;
+        }
+        String filler = "x".repeat(padding);
+        List<Map<String, Object>> results = new ArrayList<>(page.size());
+        for (ItunesDTO dto : page) {
+            Map<String, Object> result = mapper.convertValue(dto, new TypeReference<>() { });
+            result.put("description", filler);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private void handleArtwork(HttpExchange exchange) throws IOException {
+        String name = exchange.getRequestURI().getPath().substring("/artwork/".length());
+        Artwork served = artwork.get(name);
+        if (served == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        served.requests().incrementAndGet();
+        int request = artworkRequests.incrementAndGet();
+        if (!delay(artworkLatency)) {
+            exchange.close();
+            return;
+        }
+        int errorPeriod = artworkErrorPeriod;
+        if (served.failures().getAndDecrement() > 0 || (errorPeriod > 0 && request % errorPeriod == 0)) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "image/jpeg");
+        exchange.sendResponseHeaders(200, served.image().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(served.image());
+        }
+        artworkBytesServed.addAndGet(served.image().length);
+    }
+
+    /**
+     * Sleeps for a simulated latency.
+     *
+     * @return {@code false} if the handler thread was interrupted
+     */
+    private static boolean delay(Duration latency) {
+        if (latency.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(latency);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Builds a body that passes as JPEG by its header; the content after
+     * the signature is filler unique to the album, so covers do not
+     * deduplicate in a content-addressed store.
+     */
+    private static byte[] syntheticJpeg(int size, long seed) {
+        byte[] image = new byte[Math.max(size, 16)];
+        new Random(seed).nextBytes(image);
+        image[0] = (byte) 0xFF;
+        image[1] = (byte) 0xD8;
+        image[2] = (byte) 0xFF;
+        return image;
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (gzip) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream out = gzip ? new GZIPOutputStream(exchange.getResponseBody()) : exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String normalize(String term) {
+        return term.toLowerCase().replace('+', ' ').trim();
+    }
+}
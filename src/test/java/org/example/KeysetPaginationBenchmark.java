@@ -0,0 +1,109 @@
+package org.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.entity.Song;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.SongRepositoryImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the latency of a shallow and a deep page of songs fetched with
+ * {@link SongRepositoryImpl#findPage} against the same pages fetched with
+ * {@code OFFSET} on an H2 catalog of 100,000 songs.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@DisplayName("Keyset Pagination Benchmark")
+public class KeysetPaginationBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(KeysetPaginationBenchmark.class);
+
+    private static final int SONGS = 100_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int DEEP_OFFSET = SONGS - 2 * PAGE_SIZE;
+    private static final int ROUNDS = 20;
+
+    private static EntityManagerFactory emf;
+    private static SongRepositoryImpl songRepo;
+
+    @BeforeAll
+    static void setUp() {
+        emf = TestPersistenceManager.get();
+        songRepo = new SongRepositoryImpl(emf);
+        BulkCatalogWriter writer = new BulkCatalogWriter(emf);
+        List<ItunesDTO> catalog = TestCatalog.dtos(100, 10, 100);
+        for (int i = 0; i < catalog.size(); i += 5_000) {
+            writer.write(catalog.subList(i, Math.min(i + 5_000, catalog.size())));
+        }
+        assertThat(songRepo.count()).isEqualTo((long) SONGS);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        TestPersistenceManager.close();
+    }
+
+    @Test
+    @DisplayName("Keyset page latency stays flat with depth, OFFSET grows")
+    void pageLatencyByDepth() {
+        // Given
+        Song shallow = offsetPage(PAGE_SIZE).getLast();
+        Song deep = offsetPage(DEEP_OFFSET).getLast();
+
+        // When
+        long keysetShallow = medianNanos(() -> songRepo.findPage(shallow.getName(), shallow.getId(), PAGE_SIZE));
+        long keysetDeep = medianNanos(() -> songRepo.findPage(deep.getName(), deep.getId(), PAGE_SIZE));
+        long offsetShallow = medianNanos(() -> offsetPage(PAGE_SIZE + PAGE_SIZE));
+        long offsetDeep = medianNanos(() -> offsetPage(DEEP_OFFSET + PAGE_SIZE));
+
+        // Then
+        assertThat(songRepo.findPage(deep.getName(), deep.getId(), PAGE_SIZE))
+            .isEqualTo(offsetPage(DEEP_OFFSET + PAGE_SIZE));
+        logger.info("pageLatencyByDepth: keyset {} ms at row {}, {} ms at row {}",
+            millis(keysetShallow), PAGE_SIZE, millis(keysetDeep), DEEP_OFFSET);
+        logger.info("pageLatencyByDepth: offset {} ms at row {}, {} ms at row {}",
+            millis(offsetShallow), PAGE_SIZE, millis(offsetDeep), DEEP_OFFSET);
+        assertThat(keysetDeep).isLessThan(offsetDeep);
+        assertThat(keysetDeep).isLessThan(3 * keysetShallow + 2_000_000);
+    }
+
+    /**
+     * Fetches a page of songs in the same order as {@code findPage}, but
+     * positioned by offset.
+     */
+    private static List<Song> offsetPage(int offset) {
+        return emf.callInTransaction(em ->
+            em.createQuery("select s from Song s left join fetch s.album a left join fetch a.artist order by s.name, s.id",
+                    Song.class)
+                .setFirstResult(offset)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    private static long medianNanos(Supplier<List<Song>> page) {
+        long[] samples = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            assertThat(page.get()).hasSize(PAGE_SIZE);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ROUNDS / 2];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.entity.Playlist;
+import org.example.entity.Song;
+import org.example.repo.BulkCatalogWriter;
+import org.example.repo.PlaylistRepositoryImpl;
+import org.example.repo.SongRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures playlist membership operations on a library of 100,000 songs,
+ * in memory and through {@link PlaylistRepositoryImpl} on H2.
+ *
+ * <p>For comparison, the in-memory run also times a {@code Set<Song>}, the
+ * previous membership structure, on a tenth of the songs; with the
+ * constant {@link Song#hashCode()} it does not finish in reasonable time
+ * on the full library.</p>
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.</p>
+ */
+@Tag("benchmark")
+@DisplayName("Playlist Membership Benchmark")
+public class PlaylistMembershipBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(PlaylistMembershipBenchmark.class);
+
+    private static final int SONGS = 100_000;
+    private static final int SET_SONGS = SONGS / 10;
+
+    @AfterEach
+    void tearDown() {
+        TestPersistenceManager.close();
+    }
+
+    @Test
+    @DisplayName("In-memory add, contains and remove operations/second")
+    void inMemoryMembership() {
+        // Given
+        List<Song> songs = new ArrayList<>(SONGS);
+        for (long id = 1; id <= SONGS; id++) {
+            songs.add(new Song(id, "Song " + id, 180_000L, "", null));
+        }
+        Playlist library = new Playlist("Library");
+        Set<Song> set = new HashSet<>();
+
+        // When
+        long start = System.nanoTime();
+        songs.forEach(library::addSong);
+        long playlistHits = songs.stream().filter(song -> library.containsSong(song.getId())).count();
+        songs.subList(0, SONGS / 2).forEach(library::removeSong);
+        double playlistSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        start = System.nanoTime();
+        songs.subList(0, SET_SONGS).forEach(set::add);
+        long setHits = songs.subList(0, SET_SONGS).stream().filter(set::contains).count();
+        songs.subList(0, SET_SONGS / 2).forEach(set::remove);
+        double setSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Then
+        assertThat(playlistHits).isEqualTo(SONGS);
+        assertThat(setHits).isEqualTo(SET_SONGS);
+        assertThat(library.getSongs()).hasSize(SONGS / 2);
+        assertThat(set).hasSize(SET_SONGS / 2);
+        logger.info("inMemoryMembership: playlist {} ops/s over {} songs",
+            String.format("%.0f", 2.5 * SONGS / playlistSeconds), SONGS);
+        logger.info("inMemoryMembership: Set<Song> {} ops/s over {} songs",
+            String.format("%.0f", 2.5 * SET_SONGS / setSeconds), SET_SONGS);
+    }
+
+    @Test
+    @DisplayName("Adding the whole catalog to a playlist and reloading it")
+    void persistentMembership() {
+        // Given
+        EntityManagerFactory emf = TestPersistenceManager.get();
+        BulkCatalogWriter writer = new BulkCatalogWriter(emf);
+        List<ItunesDTO> catalog = TestCatalog.dtos(100, 10, 100);
+        for (int i = 0; i < catalog.size(); i += 5_000) {
+            writer.write(catalog.subList(i, Math.min(i + 5_000, catalog.size())));
+        }
+        SongRepositoryImpl songRepo = new SongRepositoryImpl(emf);
+        PlaylistRepositoryImpl playlistRepo = new PlaylistRepositoryImpl(emf);
+        Playlist library = playlistRepo.createPlaylist("Library");
+        List<Song> songs = songRepo.findAll();
+
+        // When
+        long start = System.nanoTime();
+        playlistRepo.addSongs(library, songs);
+        double addSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        start = System.nanoTime();
+        Playlist reloaded = playlistRepo.findById(library.getId());
+        double loadSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Then
+        assertThat(reloaded.getSongs()).hasSize(SONGS);
+        assertThat(songs).allMatch(song -> reloaded.containsSong(song.getId()));
+        logger.info("persistentMembership: added {} songs in {} s, reloaded in {} s",
+            SONGS, String.format("%.2f", addSeconds), String.format("%.2f", loadSeconds));
+    }
+}
@@ -4,12 +4,15 @@ import org.example.entity.Playlist;
 import org.example.entity.Song;
 import org.example.repo.AlbumRepositoryImpl;
 import org.example.repo.PlaylistRepositoryImpl;
+import org.example.repo.PlaylistRow;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for {@link PlaylistRepositoryImpl}.
@@ -44,6 +47,23 @@ public class PlaylistRepoTest extends RepoTest {
         assertThat(playlists).contains(playlist1, playlist2);
     }
 
+    @Test
+    @DisplayName("Should project all playlists to rows in id order")
+    void findRows_shouldProjectPlaylistsToRows() {
+        // Given
+        Playlist playlist1 = playlistRepo.createPlaylist("Playlist");
+        Playlist playlist2 = playlistRepo.createPlaylist("Another playlist");
+        playlistRepo.addSongs(playlist1, List.of(testSong1, testSong2));
+
+        // When
+        List<PlaylistRow> rows = playlistRepo.findRows();
+
+        // Then
+        assertThat(rows).containsExactly(
+            new PlaylistRow(playlist1.getId(), "Playlist"),
+            new PlaylistRow(playlist2.getId(), "Another playlist"));
+    }
+
     @Test
     @DisplayName("Should confirm song is in playlist")
     void isSongInPlaylist_shouldConfirmSongInPlaylist() {
@@ -131,6 +151,35 @@ public class PlaylistRepoTest extends RepoTest {
             .contains(testSong1, testSong2, testSong3);
     }
 
+    @Test
+    @DisplayName("Should add songs by id and skip songs already in the playlist")
+    void addSongsById_shouldSkipContainedSongs() {
+        // Given
+        Playlist playlist = playlistRepo.createPlaylist("Playlist");
+        playlistRepo.addSong(playlist, testSong1);
+
+        // When
+        int added = playlistRepo.addSongs(playlist.getId(), List.of(111L, 112L, 221L));
+
+        // Then
+        assertThat(added).isEqualTo(2);
+        assertThat(playlistRepo.findById(playlist.getId()).getSongs())
+            .hasSize(3)
+            .contains(testSong1, testSong2, testSong4);
+    }
+
+    @Test
+    @DisplayName("Should reject adding a song id that does not exist")
+    void addSongsById_shouldRejectUnknownSong() {
+        // Given
+        Playlist playlist = playlistRepo.createPlaylist("Playlist");
+
+        // When, Then
+        assertThatThrownBy(() -> playlistRepo.addSongs(playlist.getId(), List.of(111L, 999L)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(playlistRepo.findById(playlist.getId()).getSongs()).isEmpty();
+    }
+
     @Test
     @DisplayName("Should remove song from playlist")
     void removeSong_shouldRemoveSongFromPlaylist() {
@@ -146,4 +195,55 @@ public class PlaylistRepoTest extends RepoTest {
 
         assertThat(reloaded.getSongs()).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should not report a song that was never added")
+    void isSongInPlaylist_shouldRejectSongNotInPlaylist() {
+        // Given
+        Playlist playlist = playlistRepo.createPlaylist("Playlist");
+        playlistRepo.addSong(playlist, testSong1);
+
+        // When
+        boolean songInPlaylist = playlistRepo.isSongInPlaylist(playlist, testSong2);
+
+        // Then
+        assertThat(songInPlaylist).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resolve membership by playlist and song id")
+    void membershipById_shouldMatchJoinTable() {
+        // Given
+        Playlist playlist = playlistRepo.createPlaylist("Playlist");
+        playlistRepo.addSongs(playlist.getId(), List.of(testSong1.getId()));
+
+        // When
+        boolean contained = playlistRepo.isSongInPlaylist(playlist.getId(), testSong1.getId());
+        boolean notContained = playlistRepo.isSongInPlaylist(playlist.getId(), testSong2.getId());
+
+        // Then
+        assertThat(contained).isTrue();
+        assertThat(notContained).isFalse();
+        assertThat(playlistRepo.playlistsContaining(testSong1.getId())).containsExactly(playlist.getId());
+        assertThat(playlistRepo.playlistsContaining(testSong2.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the ids of all playlists containing a song")
+    void playlistsContaining_shouldReturnContainingPlaylistIds() {
+        // Given
+        Playlist first = playlistRepo.createPlaylist("First");
+        Playlist second = playlistRepo.createPlaylist("Second");
+        Playlist other = playlistRepo.createPlaylist("Other");
+        playlistRepo.addSongs(first, List.of(testSong1, testSong2));
+        playlistRepo.addSong(second, testSong1);
+        playlistRepo.addSong(other, testSong2);
+
+        // When
+        Set<Long> playlistIds = playlistRepo.playlistsContaining(testSong1);
+
+        // Then
+        assertThat(playlistIds).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(playlistRepo.playlistsContaining(testSong3)).isEmpty();
+    }
 }
@@ -0,0 +1,39 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SeedList}.
+ */
+@DisplayName("Seed List Tests")
+public class SeedListTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should read terms while skipping comments, blank lines and repeats")
+    void loadOrDefault_shouldParseSeedFile() throws Exception {
+        // Given
+        Path file = dir.resolve("seeds.txt");
+        Files.writeString(file, "# artists\nrefused\n\n  thrice  \nrefused\n#geese\n");
+
+        // Then
+        assertThat(SeedList.loadOrDefault(file)).containsExactly("refused", "thrice");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the bundled list when no seed file exists")
+    void loadOrDefault_shouldUseBundledList() {
+        assertThat(SeedList.loadOrDefault(dir.resolve("missing.txt")))
+            .isEqualTo(SeedList.defaults())
+            .contains("refused", "baroness");
+    }
+}
@@ -1,14 +1,20 @@
 package org.example;
 
 import org.example.entity.Artist;
+import org.example.entity.Playlist;
 import org.example.entity.Song;
 import org.example.repo.SongRepositoryImpl;
+import org.example.repo.SongRow;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for {@link SongRepositoryImpl}.
@@ -83,4 +89,99 @@ public class SongRepoTest extends RepoTest {
         // Then
         assertThat(songs).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should return only the ids of stored songs")
+    void existingIds_shouldReturnStoredIdsOnly() {
+        // Given, When
+        Set<Long> ids = songRepo.existingIds(List.of(testSong1.getId(), testSong5.getId(), 999L));
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrder(testSong1.getId(), testSong5.getId());
+    }
+
+    @Test
+    @DisplayName("Should find songs keyed by id with album and artist loaded")
+    void findByIds_shouldReturnSongsKeyedById() {
+        // Given, When
+        Map<Long, Song> songs = songRepo.findByIds(List.of(testSong1.getId(), testSong4.getId()));
+
+        // Then
+        assertThat(songs).containsOnlyKeys(testSong1.getId(), testSong4.getId());
+        assertThat(songs.get(testSong4.getId()).getAlbum().getArtist()).isEqualTo(testArtist2);
+    }
+
+    @Test
+    @DisplayName("Should page through songs ordered by title and id")
+    void findPage_shouldPageThroughSongsInOrder() {
+        // Given
+        Song duplicateTitle = new Song(114L, "Test Me Tender", 185000L, "", testAlbum1);
+        songRepo.save(duplicateTitle);
+        List<Song> pages = new ArrayList<>();
+
+        // When
+        List<Song> page = songRepo.findPage(null, null, 2);
+        while (!page.isEmpty()) {
+            pages.addAll(page);
+            Song last = page.getLast();
+            page = songRepo.findPage(last.getName(), last.getId(), 2);
+        }
+
+        // Then
+        assertThat(pages).containsExactly(testSong4, testSong3, testSong5, testSong1, duplicateTitle, testSong2);
+        assertThat(pages.getFirst().getAlbum().getArtist()).isEqualTo(testArtist2);
+    }
+
+    @Test
+    @DisplayName("Should include songs without an album when paging")
+    void findPage_shouldIncludeSongsWithoutAlbum() {
+        // Given
+        Song single = new Song(115L, "Another Test", 200000L, "", null);
+        songRepo.save(single);
+
+        // When
+        List<Song> page = songRepo.findPage(null, null, 2);
+
+        // Then
+        assertThat(page).containsExactly(testSong4, single);
+        assertThat(page.getLast().getAlbum()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a page request with a title but no id")
+    void findPage_shouldRejectTitleWithoutId() {
+        // Given, When, Then
+        assertThatThrownBy(() -> songRepo.findPage("Test Me Tender", null, 2))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> songRepo.findPage(null, null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should project songs of an album to rows with album and artist names")
+    void findRowsByAlbum_shouldProjectSongsToRows() {
+        // Given, When
+        List<SongRow> rows = songRepo.findRowsByAlbum(testAlbum2.getId());
+
+        // Then
+        assertThat(rows).containsExactly(
+            new SongRow(221L, "Another One Bites the Test", 185000L, "", 22L, "Test volume 2", null, "T.E.S.T"),
+            new SongRow(222L, "Here Comes the Test", 190000L, "", 22L, "Test volume 2", null, "T.E.S.T"));
+        assertThat(rows.getFirst().formattedLength()).isEqualTo("3:05");
+    }
+
+    @Test
+    @DisplayName("Should project only the songs of the given playlist")
+    void findRowsByPlaylist_shouldReturnPlaylistSongsOnly() {
+        // Given
+        Playlist playlist = playlistRepo.createPlaylist("Mix");
+        playlistRepo.addSongs(playlist, List.of(testSong1, testSong4));
+
+        // When
+        List<SongRow> rows = songRepo.findRowsByPlaylist(playlist.getId());
+
+        // Then
+        assertThat(rows).extracting(SongRow::id).containsExactly(testSong4.getId(), testSong1.getId());
+        assertThat(songRepo.findRows()).hasSize(5);
+    }
 }
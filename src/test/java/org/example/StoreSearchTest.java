@@ -0,0 +1,136 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StoreSearch} against a local {@link ItunesStubServer}.
+ */
+@DisplayName("Store Search Tests")
+public class StoreSearchTest {
+
+    private ItunesStubServer stub;
+    private StoreSearch search;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = ItunesStubServer.start()
+            .withResults("geese", List.of(TestCatalog.dto(7L, 70L, 1L, "Geese"), TestCatalog.dto(7L, 70L, 2L, "Geese")))
+            .withResults("viagra boys", List.of(TestCatalog.dto(8L, 80L, 3L, "Viagra Boys")));
+        search = new StoreSearch(new ItunesApiClient(stub.searchUri(), null, 20), Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void stopStub() {
+        search.close();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Should send a single request for a burst of keystrokes")
+    void search_shouldDebounceKeystrokes() throws Exception {
+        // Given
+        List<List<ItunesDTO>> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        for (String text : List.of("g", "ge", "gee", "gees", "geese")) {
+            search.search(text, songs -> {
+                delivered.add(songs);
+                if (!songs.isEmpty()) {
+                    done.countDown();
+                }
+            }, error -> { });
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered.getLast()).extracting(ItunesDTO::trackId).containsExactly(1L, 2L);
+        assertThat(stub.searchRequests()).isEqualTo(1);
+        assertThat(search.requestsSent()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should merge identical concurrent queries into one request")
+    void fetch_shouldCoalesceIdenticalQueries() throws Exception {
+        // Given
+        stub.withSearchLatency(Duration.ofMillis(200));
+
+        // When
+        CompletableFuture<List<ItunesDTO>> first = search.fetch("Geese");
+        CompletableFuture<List<ItunesDTO>> second = search.fetch("  geese ");
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).hasSize(2);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get());
+        assertThat(stub.searchRequests()).isEqualTo(1);
+        assertThat(search.requestsCoalesced()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cancel a superseded request and deliver only the latest results")
+    void search_shouldCancelSupersededRequest() throws Exception {
+        // Given
+        stub.withSearchLatency(Duration.ofMillis(500));
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        search.search("geese", songs -> delivered.add("geese"), error -> { });
+        awaitSearchRequests(1);
+
+        // When
+        search.search("viagra boys", songs -> {
+            delivered.add("viagra boys");
+            done.countDown();
+        }, error -> { });
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).containsExactly("viagra boys");
+        assertThat(search.requestsCancelled()).isEqualTo(1);
+    }
+
+    private void awaitSearchRequests(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stub.searchRequests() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stub.searchRequests()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should return songs of artists that only partially match the query")
+    void fetch_shouldFindPartialQueries() throws Exception {
+        // Given
+        stub.withResults("vi", List.of(TestCatalog.dto(8L, 80L, 3L, "Viagra Boys")));
+
+        // When
+        List<ItunesDTO> songs = search.fetch("vi").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(songs).extracting(ItunesDTO::trackId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should return songs matched by title rather than artist")
+    void fetch_shouldFindSongTitles() throws Exception {
+        // Given
+        stub.withResults("song 2", List.of(TestCatalog.dto(7L, 70L, 2L, "Geese")));
+
+        // When
+        List<ItunesDTO> songs = search.fetch("Song 2").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(songs).extracting(ItunesDTO::trackName).containsExactly("Song 2");
+    }
+}
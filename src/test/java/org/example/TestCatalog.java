@@ -0,0 +1,60 @@
+package org.example;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates synthetic iTunes search results for tests and benchmarks.
+ *
+ * <p>Identifiers are derived from the position of each entity so that the
+ * generated catalog is deterministic and free of collisions with the
+ * fixed entities created by {@link RepoTest}.</p>
+ */
+public final class TestCatalog {
+
+    /** Offset added to every generated identifier. */
+    private static final long ID_OFFSET = 1_000_000L;
+
+    private TestCatalog() {
+    }
+
+    /**
+     * Creates a synthetic catalog.
+     *
+     * @param artists         number of artists
+     * @param albumsPerArtist number of albums per artist
+     * @param songsPerAlbum   number of songs per album
+     * @return one DTO per generated song
+     */
+    public static List<ItunesDTO> dtos(int artists, int albumsPerArtist, int songsPerAlbum) {
+        List<ItunesDTO> dtos = new ArrayList<>(artists * albumsPerArtist * songsPerAlbum);
+        for (int ar = 0; ar < artists; ar++) {
+            long artistId = ID_OFFSET + ar;
+            for (int al = 0; al < albumsPerArtist; al++) {
+                long albumId = ID_OFFSET + (long) ar * albumsPerArtist + al;
+                for (int s = 0; s < songsPerAlbum; s++) {
+                    long songId = ID_OFFSET + ((long) ar * albumsPerArtist + al) * songsPerAlbum + s;
+                    dtos.add(dto(artistId, albumId, songId, "Artist " + ar));
+                }
+            }
+        }
+        return dtos;
+    }
+
+    /**
+     * Creates a single synthetic DTO without artwork.
+     *
+     * @param artistId   artist identifier
+     * @param albumId    album identifier
+     * @param songId     song identifier
+     * @param artistName artist name
+     * @return a new DTO
+     */
+    public static ItunesDTO dto(long artistId, long albumId, long songId, String artistName) {
+        return new ItunesDTO(artistId, albumId, songId,
+            "Song " + songId, artistName, "Album " + albumId,
+            "SWE", "Rock", LocalDate.of(2000, 1, 1), 10L, 180_000L,
+            null, "");
+    }
+}
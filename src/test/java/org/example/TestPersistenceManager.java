@@ -46,7 +46,9 @@ public final class TestPersistenceManager {
                 Map.of(
                     "hibernate.hbm2ddl.auto", "create-drop",
                     "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
-                    "hibernate.show_sql", "false"
+                    "hibernate.show_sql", "false",
+                    "hibernate.jdbc.batch_size", "50",
+                    "hibernate.order_inserts", "true"
                 )
             );
         }
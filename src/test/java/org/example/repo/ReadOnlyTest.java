@@ -0,0 +1,56 @@
+package org.example.repo;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.TestPersistenceManager;
+import org.example.entity.Artist;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the read-only sessions the finders run in.
+ *
+ * <p>Lives in the repository package because {@link ReadOnly} is package-private.</p>
+ */
+@DisplayName("Read-Only Session Tests")
+public class ReadOnlyTest {
+
+    private EntityManagerFactory emf;
+
+    @BeforeEach
+    void setup() {
+        emf = TestPersistenceManager.get();
+        new ArtistRepositoryImpl(emf).save(new Artist(1L, "Test and Test", "Testistan"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestPersistenceManager.close();
+    }
+
+    @Test
+    @DisplayName("Should load entities read-only and not write changes made to them")
+    void call_shouldNotFlushModifiedEntities() {
+        // When
+        boolean readOnly = ReadOnly.call(emf, em -> {
+            Artist artist = em.createQuery("select a from Artist a where a.id = :id", Artist.class)
+                .setParameter("id", 1L)
+                .getSingleResult();
+            artist.setName("Modified");
+            em.find(Artist.class, 1L).setCountry("Modified");
+            return em.unwrap(Session.class).isReadOnly(artist);
+        });
+
+        // Then
+        assertThat(readOnly).isTrue();
+        Object[] stored = emf.callInTransaction(em ->
+            em.createQuery("select a.name, a.country from Artist a where a.id = :id", Object[].class)
+                .setParameter("id", 1L)
+                .getSingleResult());
+        assertThat(stored).containsExactly("Test and Test", "Testistan");
+    }
+}